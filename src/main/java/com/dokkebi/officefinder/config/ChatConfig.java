@@ -1,15 +1,76 @@
 package com.dokkebi.officefinder.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/*
+chat.broker.mode
+simple : 현재 노드의 simple broker만 사용 (단일 노드)
+redis : simple broker를 사용하고, 채팅방 메세지는 Redis pub/sub으로 다른 노드에 전달 (ChatRoomBroadcaster)
+relay : 외부 STOMP broker(RabbitMQ, ActiveMQ 등)로 구독과 전달을 위임, chat.broker.relay.login / passcode 필수
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class ChatConfig implements WebSocketMessageBrokerConfigurer {
 
+  public static final String BROKER_MODE_SIMPLE = "simple";
+  public static final String BROKER_MODE_REDIS = "redis";
+  public static final String BROKER_MODE_RELAY = "relay";
+
+  @Value("${chat.broker.mode:" + BROKER_MODE_SIMPLE + "}")
+  private String brokerMode;
+
+  @Value("${chat.broker.relay.host:localhost}")
+  private String relayHost;
+  @Value("${chat.broker.relay.port:61613}")
+  private int relayPort;
+  @Value("${chat.broker.relay.login:}")
+  private String relayLogin;
+  @Value("${chat.broker.relay.passcode:}")
+  private String relayPasscode;
+
+  // 클라이언트가 보낸 메세지를 처리하는 스레드 풀, 기본값은 코어 수의 2배
+  @Value("${chat.channel.inbound.core-pool-size:#{T(java.lang.Runtime).getRuntime()"
+      + ".availableProcessors() * 2}}")
+  private int inboundCorePoolSize;
+  @Value("${chat.channel.inbound.max-pool-size:#{T(java.lang.Runtime).getRuntime()"
+      + ".availableProcessors() * 8}}")
+  private int inboundMaxPoolSize;
+  @Value("${chat.channel.inbound.queue-capacity:1000}")
+  private int inboundQueueCapacity;
+
+  // 구독자에게 메세지를 전송하는 스레드 풀, 기본값은 코어 수의 2배
+  @Value("${chat.channel.outbound.core-pool-size:#{T(java.lang.Runtime).getRuntime()"
+      + ".availableProcessors() * 2}}")
+  private int outboundCorePoolSize;
+  @Value("${chat.channel.outbound.max-pool-size:#{T(java.lang.Runtime).getRuntime()"
+      + ".availableProcessors() * 8}}")
+  private int outboundMaxPoolSize;
+  @Value("${chat.channel.outbound.queue-capacity:1000}")
+  private int outboundQueueCapacity;
+
+  // 느린 클라이언트 하나가 전송 스레드를 오래 점유하지 않도록 전송 시간과 버퍼 크기를 제한한다.
+  @Value("${chat.transport.send-time-limit-ms:10000}")
+  private int sendTimeLimit;
+  @Value("${chat.transport.send-buffer-size-limit:524288}")
+  private int sendBufferSizeLimit;
+
+  private final MeterRegistry meterRegistry;
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry.addEndpoint("/ws/chat").setAllowedOriginPatterns("*").withSockJS();
@@ -18,9 +79,66 @@ public class ChatConfig implements WebSocketMessageBrokerConfigurer {
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
 
-    registry.enableSimpleBroker("/queue", "/topic");
+    if (BROKER_MODE_RELAY.equals(brokerMode)) {
+      // 기본 계정(guest)으로 외부 broker에 접속하지 않도록 계정 정보가 없으면 시작하지 않는다.
+      if (!StringUtils.hasText(relayLogin) || !StringUtils.hasText(relayPasscode)) {
+        throw new IllegalStateException("chat.broker.relay.login and chat.broker.relay.passcode "
+            + "are required when chat.broker.mode is relay");
+      }
+
+      registry.enableStompBrokerRelay("/queue", "/topic")
+          .setRelayHost(relayHost)
+          .setRelayPort(relayPort)
+          .setClientLogin(relayLogin)
+          .setClientPasscode(relayPasscode)
+          .setSystemLogin(relayLogin)
+          .setSystemPasscode(relayPasscode);
+    } else {
+      registry.enableSimpleBroker("/queue", "/topic");
+    }
 
     registry.setApplicationDestinationPrefixes("/app");
+
+    // outbound 채널을 여러 스레드로 처리해도 세션별 메세지 순서가 유지되도록 한다.
+    registry.setPreservePublishOrder(true);
+  }
+
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(channelExecutor("inbound"))
+        .corePoolSize(inboundCorePoolSize)
+        .maxPoolSize(inboundMaxPoolSize)
+        .queueCapacity(inboundQueueCapacity);
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(channelExecutor("outbound"))
+        .corePoolSize(outboundCorePoolSize)
+        .maxPoolSize(outboundMaxPoolSize)
+        .queueCapacity(outboundQueueCapacity);
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendTimeLimit(sendTimeLimit)
+        .setSendBufferSizeLimit(sendBufferSizeLimit);
+  }
+
+  // 큐와 스레드가 모두 찬 경우 메세지를 버리지 않고 호출한 스레드에서 처리하여 보내는 쪽의 속도를 늦춘다.
+  private ThreadPoolTaskExecutor channelExecutor(String channel) {
+    Counter rejected = meterRegistry.counter("chat.channel.rejected", "channel", channel);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setRejectedExecutionHandler((task, pool) -> {
+      rejected.increment();
+      log.debug("chat {} channel is full, running on caller thread", channel);
+
+      if (!pool.isShutdown()) {
+        task.run();
+      }
+    });
+    return executor;
   }
 
 }
@@ -1,6 +1,11 @@
 package com.dokkebi.officefinder.config;
 
+import com.dokkebi.officefinder.config.cache.CacheConfig;
+import com.dokkebi.officefinder.config.cache.CacheSerializers;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -16,10 +21,11 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -32,6 +38,8 @@ public class RedisConfig {
   private int port;
   @Value("${spring.redis.password}")
   private String password;
+  @Value("${cache.redis.smile-caches:}")
+  private String[] smileCacheNames;
 
   @Autowired
   private Environment environment;
@@ -52,23 +60,42 @@ public class RedisConfig {
     return new LettuceConnectionFactory(conf);
   }
 
+  /*
+   * cache.redis.smile-caches에 지정한 캐시는 Smile(바이너리) 형식으로, 나머지는 JSON 형식으로 저장한다.
+   * ex) cache.redis.smile-caches=Review,OfficeDetail
+   */
   @Bean
   public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
-    RedisCacheConfiguration conf = RedisCacheConfiguration.defaultCacheConfig()
-        .serializeKeysWith(
-            RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-        )
-        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                new GenericJackson2JsonRedisSerializer()
-            )
-        );
+    RedisCacheConfiguration conf = cacheConfiguration(CacheSerializers.json());
+    RedisCacheConfiguration smileConf = cacheConfiguration(CacheSerializers.smile());
+
+    Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+
+    for (String cacheName : smileCacheNames) {
+      cacheConfigurations.put(cacheName.trim(), smileConf);
+    }
+
+    cacheConfigurations.put(CacheConfig.OFFICE_DETAIL,
+        cacheConfigurations.getOrDefault(CacheConfig.OFFICE_DETAIL, conf)
+            .entryTtl(Duration.ofMinutes(10)));
 
     return RedisCacheManager.RedisCacheManagerBuilder
         .fromConnectionFactory(redisConnectionFactory)
         .cacheDefaults(conf)
+        .withInitialCacheConfigurations(cacheConfigurations)
         .build();
   }
 
+  private RedisCacheConfiguration cacheConfiguration(RedisSerializer<Object> valueSerializer) {
+    return RedisCacheConfiguration.defaultCacheConfig()
+        .serializeKeysWith(
+            RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
+        )
+        .serializeValuesWith(
+            RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer)
+        );
+  }
+
   @Bean
   public RedisTemplate<String, ?> redisTemplate() {
     RedisTemplate<String, ?> redisTemplate = new RedisTemplate<>();
@@ -82,6 +109,15 @@ public class RedisConfig {
     return redisTemplate;
   }
 
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+
+    return container;
+  }
+
   @Bean
   public RedissonClient redissonClient(){
     RedissonClient redisson = null;
@@ -1,18 +1,29 @@
 package com.dokkebi.officefinder.config.batch;
 
 import com.dokkebi.officefinder.entity.lease.Lease;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.flow.Flow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -27,70 +38,189 @@ public class BatchJobConfig {
 
   private final StepBuilderFactory stepBuilderFactory;
 
+  private final BatchMetricsListener batchMetricsListener;
+
   private final int CHUNK_SIZE = 100;
 
+  public static final String BULK_UPDATE_MODE = "bulk";
+  public static final String ENTITY_UPDATE_MODE = "entity";
+  // updateMode job 파라미터가 없을 때의 실행 방식, ScheduledService의 기본값과 같다.
+  public static final String DEFAULT_UPDATE_MODE = BULK_UPDATE_MODE;
+
+  // split된 두 flow가 스레드를 하나씩 점유하므로, 코어 수만큼의 파티션이 동시에 실행될 수 있도록 여유를 둔다.
   @Bean
   public TaskExecutor batchTaskExecutor(){
+    int processors = Runtime.getRuntime().availableProcessors();
+
     ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
-    taskExecutor.setMaxPoolSize(10);
-    taskExecutor.setCorePoolSize(5);
+    taskExecutor.setMaxPoolSize(Math.max(10, processors * 2 + 2));
+    taskExecutor.setCorePoolSize(Math.max(5, processors + 2));
+    taskExecutor.setThreadNamePrefix("batch-");
     taskExecutor.setQueueCapacity(100);
     taskExecutor.initialize();
     return taskExecutor;
   }
+  // updateMode job 파라미터에 따라 entity 방식과 bulk 방식 중 하나의 step을 실행
+  @Bean
+  public Flow updateLeaseEndFlow(JobExecutionDecider updateModeDecider, Step updateLeaseEndStep,
+      Step updateLeaseEndBulkStep) {
+    return new FlowBuilder<Flow>("updateLeaseEndFlow")
+        .start(updateModeDecider)
+        .on(BULK_UPDATE_MODE).to(updateLeaseEndBulkStep)
+        .from(updateModeDecider).on("*").to(updateLeaseEndStep)
+        .build();
+  }
+
+  @Bean
+  public Flow updateLeaseStartFlow(JobExecutionDecider updateModeDecider,
+      Step updateLeaseStartStep, Step updateLeaseStartBulkStep) {
+    return new FlowBuilder<Flow>("updateLeaseStartFlow")
+        .start(updateModeDecider)
+        .on(BULK_UPDATE_MODE).to(updateLeaseStartBulkStep)
+        .from(updateModeDecider).on("*").to(updateLeaseStartStep)
+        .build();
+  }
+
+  /*
+  flow, 파티션 step은 애플리케이션 시작 시 만들어지고 split, 파티션 스레드에서 실행되므로 job scope를 사용할 수 없다.
+  job 파라미터가 필요한 값은 step 실행 시점에 결정한다.
+  - 실행 방식 : updateModeDecider
+  - 파티션 개수 : step scope인 partitioner가 gridSize 파라미터로 직접 구간을 나눈다.
+  - 청크 크기 : step scope인 leaseChunkCompletionPolicy
+   */
+  @Bean
+  public JobExecutionDecider updateModeDecider() {
+    return (jobExecution, stepExecution) -> new FlowExecutionStatus(
+        isBulkMode(jobExecution.getJobParameters().getString("updateMode", DEFAULT_UPDATE_MODE))
+            ? BULK_UPDATE_MODE : ENTITY_UPDATE_MODE);
+  }
+
+  @Bean
+  @StepScope
+  public SimpleCompletionPolicy leaseChunkCompletionPolicy(
+      @Value("#{jobParameters[chunkSize] ?: 100}") int chunkSize) {
+    return new SimpleCompletionPolicy(chunkSize);
+  }
+
+  // 임대 id 범위를 gridSize 개로 나누어 worker step들을 batchTaskExecutor에서 병렬로 실행
+  @Bean
+  public Step updateLeaseEndStep(Partitioner leaseEndPartitioner,
+      Step updateLeaseEndWorkerStep) {
+    return partitionStep("updateLeaseEndStep", leaseEndPartitioner, updateLeaseEndWorkerStep);
+  }
+
+  @Bean
+  public Step updateLeaseStartStep(Partitioner leaseStartPartitioner,
+      Step updateLeaseStartWorkerStep) {
+    return partitionStep("updateLeaseStartStep", leaseStartPartitioner,
+        updateLeaseStartWorkerStep);
+  }
+
+  @Bean
+  public Step updateLeaseEndBulkStep(Partitioner leaseEndPartitioner,
+      Step updateLeaseEndBulkWorkerStep) {
+    return partitionStep("updateLeaseEndBulkStep", leaseEndPartitioner,
+        updateLeaseEndBulkWorkerStep);
+  }
+
   @Bean
-  public Flow updateLeaseEndFlow(JpaPagingItemReader<Lease> leaseEndItemReader,
+  public Step updateLeaseStartBulkStep(Partitioner leaseStartPartitioner,
+      Step updateLeaseStartBulkWorkerStep) {
+    return partitionStep("updateLeaseStartBulkStep", leaseStartPartitioner,
+        updateLeaseStartBulkWorkerStep);
+  }
+
+  @Bean
+  public Step updateLeaseEndWorkerStep(CompletionPolicy leaseChunkCompletionPolicy,
+      JpaPagingItemReader<Lease> leaseEndItemReader,
       ItemProcessor<Lease, Lease> leaseEndItemProcessor,
-      JpaItemWriter<Lease> leaseItemWriter){
+      JpaItemWriter<Lease> leaseItemWriter) {
 
-    return new FlowBuilder<Flow>("updateLeaseEndFlow")
-        .start(stepBuilderFactory.get("updateLeaseEndStep")
-            .<Lease, Lease>chunk(CHUNK_SIZE)
-            .reader(leaseEndItemReader)
-            .processor(leaseEndItemProcessor)
-            .writer(leaseItemWriter)
-            .build())
+    return stepBuilderFactory.get("updateLeaseEndWorkerStep")
+        .<Lease, Lease>chunk(leaseChunkCompletionPolicy)
+        .reader(leaseEndItemReader)
+        .processor(leaseEndItemProcessor)
+        .writer(leaseItemWriter)
+        .listener(batchMetricsListener)
         .build();
   }
 
   @Bean
-  public Flow updateLeaseStartFlow(JpaPagingItemReader<Lease> leaseStartItemReader,
+  public Step updateLeaseStartWorkerStep(CompletionPolicy leaseChunkCompletionPolicy,
+      JpaPagingItemReader<Lease> leaseStartItemReader,
       ItemProcessor<Lease, Lease> leaseStartItemProcessor,
-      JpaItemWriter<Lease> leaseItemWriter){
+      JpaItemWriter<Lease> leaseItemWriter) {
 
-    return new FlowBuilder<Flow>("updateLeaseStartFlow")
-        .start(stepBuilderFactory.get("updateLeaseStartStep")
-            .<Lease, Lease>chunk(CHUNK_SIZE)
-            .reader(leaseStartItemReader)
-            .processor(leaseStartItemProcessor)
-            .writer(leaseItemWriter)
-            .build())
+    return stepBuilderFactory.get("updateLeaseStartWorkerStep")
+        .<Lease, Lease>chunk(leaseChunkCompletionPolicy)
+        .reader(leaseStartItemReader)
+        .processor(leaseStartItemProcessor)
+        .writer(leaseItemWriter)
+        .listener(batchMetricsListener)
         .build();
   }
 
+  // 엔티티를 읽지 않고 id 구간마다 UPDATE 문 하나로 상태를 변경
   @Bean
-  public Step alarmLeaseStartStep(JpaPagingItemReader<Lease> alarmStartItemReader,
-      ItemProcessor<Lease, Lease> alarmLeaseStartProcessor,
-      JpaItemWriter<Lease> leaseItemWriter) {
+  public Step updateLeaseEndBulkWorkerStep(Tasklet leaseEndBulkUpdateTasklet) {
+    return stepBuilderFactory.get("updateLeaseEndBulkWorkerStep")
+        .tasklet(leaseEndBulkUpdateTasklet)
+        .listener(batchMetricsListener)
+        .build();
+  }
+
+  @Bean
+  public Step updateLeaseStartBulkWorkerStep(Tasklet leaseStartBulkUpdateTasklet) {
+    return stepBuilderFactory.get("updateLeaseStartBulkWorkerStep")
+        .tasklet(leaseStartBulkUpdateTasklet)
+        .listener(batchMetricsListener)
+        .build();
+  }
+
+  @Bean
+  public Step alarmLeaseStartStep(JdbcPagingItemReader<LeaseAlarmItem> alarmStartItemReader,
+      ItemProcessor<LeaseAlarmItem, NotificationEvent> alarmLeaseStartProcessor,
+      CustomerNotificationItemWriter customerNotificationItemWriter) {
 
     return stepBuilderFactory.get("alarmLeaseStartStep")
-        .<Lease, Lease>chunk(CHUNK_SIZE)
+        .<LeaseAlarmItem, NotificationEvent>chunk(CHUNK_SIZE)
         .reader(alarmStartItemReader)
         .processor(alarmLeaseStartProcessor)
-        .writer(leaseItemWriter)
+        .writer(customerNotificationItemWriter)
+        .listener(batchMetricsListener)
         .build();
   }
 
   @Bean
-  public Step alarmLeaseExpireStep(JpaPagingItemReader<Lease> alarmExpireItemReader,
-      ItemProcessor<Lease, Lease> alarmLeaseEndProcessor,
-      JpaItemWriter<Lease> leaseItemWriter) {
+  public Step alarmLeaseExpireStep(JdbcPagingItemReader<LeaseAlarmItem> alarmExpireItemReader,
+      ItemProcessor<LeaseAlarmItem, NotificationEvent> alarmLeaseEndProcessor,
+      CustomerNotificationItemWriter customerNotificationItemWriter) {
 
     return stepBuilderFactory.get("alarmLeaseExpireStep")
-        .<Lease, Lease>chunk(CHUNK_SIZE)
+        .<LeaseAlarmItem, NotificationEvent>chunk(CHUNK_SIZE)
         .reader(alarmExpireItemReader)
         .processor(alarmLeaseEndProcessor)
-        .writer(leaseItemWriter)
+        .writer(customerNotificationItemWriter)
+        .listener(batchMetricsListener)
+        .build();
+  }
+
+  // 자정 작업(상태 변경, 시작/만료 알림)을 임대 테이블 한 번의 조회로 처리
+  @Bean
+  @JobScope
+  public Step leaseSweepStep(
+      @Value("#{jobParameters[chunkSize] ?: 100}") int chunkSize,
+      JdbcPagingItemReader<LeaseAlarmItem> leaseSweepItemReader,
+      ItemProcessor<LeaseAlarmItem, LeaseSweepResult> leaseSweepProcessor,
+      LeaseSweepItemWriter leaseSweepItemWriter) {
+
+    return stepBuilderFactory.get("leaseSweepStep")
+        .<LeaseAlarmItem, LeaseSweepResult>chunk(chunkSize)
+        .reader(leaseSweepItemReader)
+        .processor(leaseSweepProcessor)
+        .writer(leaseSweepItemWriter)
+        .listener(leaseSweepItemWriter)
+        .listener(batchMetricsListener)
         .build();
   }
 
@@ -116,6 +246,27 @@ public class BatchJobConfig {
         .build();
   }
 
+  @Bean
+  public Job leaseSweepJob(Step leaseSweepStep) {
+    return jobBuilderFactory.get("leaseSweepJob")
+        .start(leaseSweepStep)
+        .build();
+  }
+
+  // 파티션 step의 이름은 실제로 실행되는 worker step의 이름을 사용한다. (ex: updateLeaseEndBulkWorkerStep:partition0)
+  private Step partitionStep(String name, Partitioner partitioner, Step workerStep) {
+    return stepBuilderFactory.get(name)
+        .partitioner(workerStep.getName(), partitioner)
+        .step(workerStep)
+        .taskExecutor(batchTaskExecutor())
+        .listener(batchMetricsListener)
+        .build();
+  }
+
+  private boolean isBulkMode(String updateMode) {
+    return BULK_UPDATE_MODE.equalsIgnoreCase(updateMode);
+  }
+
   private Flow splitFlow(Flow endFlow, Flow startFlow) {
     return new FlowBuilder<SimpleFlow>("splitFlow")
         .split(batchTaskExecutor())
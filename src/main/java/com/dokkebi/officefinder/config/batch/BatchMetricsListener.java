@@ -0,0 +1,119 @@
+package com.dokkebi.officefinder.config.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.AfterWrite;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * step 단위 처리 시간, 처리 건수와 청크 처리 시간, 청크 write 시간을 Micrometer로 기록합니다.
+ * <p>
+ * 아이템마다 측정하면 측정 비용이 처리량에 영향을 주므로, read/process 시간은 청크 시간에서 write 시간을 뺀 값으로 판단합니다.
+ * <p>
+ * 파티션 step은 여러 스레드에서 동시에 실행되므로 측정 시작 시점은 ThreadLocal에 저장하며, "step:partitionN" 형태의 이름은
+ * 파티션 번호를 제외하고 태그로 사용합니다.
+ * <p>
+ * 인터페이스 대신 어노테이션 기반 리스너로 작성하여, 어떤 step builder에도 listener(Object)로 등록할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchMetricsListener {
+
+  private final MeterRegistry meterRegistry;
+
+  private final ThreadLocal<Timer.Sample> chunkSample = new ThreadLocal<>();
+  private final ThreadLocal<Timer.Sample> writeSample = new ThreadLocal<>();
+
+  @AfterStep
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    Tags tags = Tags.of("job", stepExecution.getJobExecution().getJobInstance().getJobName(),
+        "step", stepName(stepExecution.getStepName()));
+
+    // afterStep 시점에는 endTime이 아직 기록되지 않았다.
+    Duration duration = Duration.ofMillis(
+        System.currentTimeMillis() - stepExecution.getStartTime().getTime());
+
+    meterRegistry.timer("batch.step.duration",
+            tags.and("status", stepExecution.getExitStatus().getExitCode()))
+        .record(duration);
+
+    meterRegistry.counter("batch.step.items", tags.and("type", "read"))
+        .increment(stepExecution.getReadCount());
+    meterRegistry.counter("batch.step.items", tags.and("type", "write"))
+        .increment(stepExecution.getWriteCount());
+    meterRegistry.counter("batch.step.items", tags.and("type", "filter"))
+        .increment(stepExecution.getFilterCount());
+    meterRegistry.counter("batch.step.items", tags.and("type", "skip"))
+        .increment(stepExecution.getSkipCount());
+
+    long millis = Math.max(duration.toMillis(), 1);
+    double throughput = stepExecution.getWriteCount() * 1000.0 / millis;
+    meterRegistry.summary("batch.step.throughput", tags).record(throughput);
+
+    log.info("step finished. step : {}, duration : {}ms, read : {}, write : {}, {} items/s",
+        stepExecution.getStepName(), duration.toMillis(), stepExecution.getReadCount(),
+        stepExecution.getWriteCount(), String.format("%.1f", throughput));
+
+    return stepExecution.getExitStatus();
+  }
+
+  @BeforeChunk
+  public void beforeChunk(ChunkContext context) {
+    chunkSample.set(Timer.start(meterRegistry));
+  }
+
+  @AfterChunk
+  public void afterChunk(ChunkContext context) {
+    stop(chunkSample, "batch.chunk", "result", "success");
+  }
+
+  @AfterChunkError
+  public void afterChunkError(ChunkContext context) {
+    stop(chunkSample, "batch.chunk", "result", "failure");
+  }
+
+  @BeforeWrite
+  public void beforeWrite(List<?> items) {
+    writeSample.set(Timer.start(meterRegistry));
+  }
+
+  @AfterWrite
+  public void afterWrite(List<?> items) {
+    stop(writeSample, "batch.chunk.write");
+  }
+
+  private void stop(ThreadLocal<Timer.Sample> holder, String name, String... extraTags) {
+    Timer.Sample sample = holder.get();
+    if (sample == null) {
+      return;
+    }
+    holder.remove();
+
+    StepContext context = StepSynchronizationManager.getContext();
+    String step = context == null ? "unknown" : stepName(context.getStepName());
+
+    sample.stop(meterRegistry.timer(name, Tags.of("step", step).and(extraTags)));
+  }
+
+  // 파티션 step의 이름(step:partition0)에서 파티션 번호를 제외
+  private String stepName(String stepName) {
+    int index = stepName.indexOf(':');
+    return index < 0 ? stepName : stepName.substring(0, index);
+  }
+}
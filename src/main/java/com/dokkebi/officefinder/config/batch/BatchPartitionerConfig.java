@@ -0,0 +1,51 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import java.sql.Date;
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class BatchPartitionerConfig {
+
+  private final EntityManagerFactory emf;
+
+  @Bean
+  @StepScope
+  public LeaseIdRangePartitioner leaseEndPartitioner(
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[gridSize] ?: 4}") int gridSize
+  ) {
+    String query = "SELECT min(l.id), max(l.id) FROM Lease l WHERE l.leaseStatus = :leaseStatus "
+        + "and l.leaseEndDate = :expireDate";
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("leaseStatus", LeaseStatus.PROCEEDING);
+    params.put("expireDate", today.toLocalDate().minusDays(1));
+
+    return new LeaseIdRangePartitioner(emf, query, params, gridSize);
+  }
+
+  @Bean
+  @StepScope
+  public LeaseIdRangePartitioner leaseStartPartitioner(
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[gridSize] ?: 4}") int gridSize
+  ) {
+    String query = "SELECT min(l.id), max(l.id) FROM Lease l WHERE l.leaseStatus = :leaseStatus "
+        + "and l.leaseStartDate = :startDate";
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("leaseStatus", LeaseStatus.AWAIT);
+    params.put("startDate", today.toLocalDate());
+
+    return new LeaseIdRangePartitioner(emf, query, params, gridSize);
+  }
+}
@@ -2,11 +2,13 @@ package com.dokkebi.officefinder.config.batch;
 
 import com.dokkebi.officefinder.entity.lease.Lease;
 import com.dokkebi.officefinder.entity.type.LeaseStatus;
-import com.dokkebi.officefinder.entity.type.NotificationType;
-import com.dokkebi.officefinder.service.notification.NotificationService;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
@@ -18,8 +20,6 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class BatchProcessorConfig {
 
-  private final NotificationService notificationService;
-
   @Bean
   @StepScope
   public ItemProcessor<Lease, Lease> leaseEndItemProcessor() {
@@ -40,49 +40,69 @@ public class BatchProcessorConfig {
 
   @Bean
   @StepScope
-  public ItemProcessor<Lease, Lease> alarmLeaseStartProcessor(
+  public ItemProcessor<LeaseAlarmItem, NotificationEvent> alarmLeaseStartProcessor(
       @Value("#{jobParameters[startDate]}") Date startDate
   ) {
     LocalDate currentDate = startDate.toLocalDate();
 
-    return lease -> {
-      LocalDate leaseStartDate = lease.getLeaseStartDate();
-      int daysDifference = (int) ChronoUnit.DAYS.between(leaseStartDate, currentDate);
-      String officeName = lease.getOffice().getName();
-
-      if (daysDifference == 0) {
-        notificationService.sendToCustomer(lease.getCustomer(), NotificationType.LEASE_PROCEED,
-            "임대 시작", officeName + "에 대한 임대가 시작되었습니다 :)");
-      } else {
-        notificationService.sendToCustomer(lease.getCustomer(), NotificationType.LEASE_REMINDER,
-            "임대 시작 임박", officeName + "에 대한 임대 시작 " + daysDifference + "일 남았습니다 :)");
-      }
-      return lease;
+    return item -> {
+      int daysDifference = (int) ChronoUnit.DAYS.between(item.getLeaseStartDate(), currentDate);
+      return LeaseAlarmMessages.startNotification(item, daysDifference);
     };
   }
 
   @Bean
   @StepScope
-  public ItemProcessor<Lease, Lease> alarmLeaseEndProcessor(
+  public ItemProcessor<LeaseAlarmItem, NotificationEvent> alarmLeaseEndProcessor(
       @Value("#{jobParameters[expireDate]}") Date expireDate) {
 
     LocalDate currentDate = expireDate.toLocalDate();
 
-    return lease -> {
-      LocalDate leaseEndDate = lease.getLeaseEndDate();
-      int daysDifference = (int) ChronoUnit.DAYS.between(leaseEndDate, currentDate);
-      String officeName = lease.getOffice().getName();
+    return item -> {
+      int daysDifference = (int) ChronoUnit.DAYS.between(item.getLeaseEndDate(), currentDate);
+      return LeaseAlarmMessages.expireNotification(item, daysDifference);
+    };
+  }
+
+  // 한 번 읽은 임대 건을 상태 변경, 시작 알림, 만료 알림 처리로 나누어 판단
+  @Bean
+  @StepScope
+  public ItemProcessor<LeaseAlarmItem, LeaseSweepResult> leaseSweepProcessor(
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[daysToNotify]}") String daysToNotify) {
 
-      if (daysDifference == 0) {
-        notificationService.sendToCustomer(lease.getCustomer(), NotificationType.LEASE_EXPIRED,
-            "임대 만료", officeName + "에 대한 임대가 만료되었습니다. 이용해 주셔서 감사합니다 :)");
-      } else {
-        notificationService.sendToCustomer(lease.getCustomer(), NotificationType.LEASE_REMINDER,
-            "임대 만료 임박", officeName + "에 대한 임대가 만료 " + daysDifference + "일 남았습니다 :)");
-      }
+    LocalDate currentDate = today.toLocalDate();
+    LocalDate expireDate = currentDate.minusDays(1);
+    Set<Integer> days = Arrays.stream(daysToNotify.split(","))
+        .map(Integer::parseInt)
+        .collect(Collectors.toSet());
 
-      return lease;
+    return item -> {
+      int startDifference = (int) ChronoUnit.DAYS.between(item.getLeaseStartDate(), currentDate);
+      int expireDifference = (int) ChronoUnit.DAYS.between(item.getLeaseEndDate(), expireDate);
+
+      LeaseSweepResult result = LeaseSweepResult.builder()
+          .leaseId(item.getLeaseId())
+          .currentStatus(item.getLeaseStatus())
+          .nextStatus(nextStatus(item, currentDate, expireDate))
+          .startNotification(days.contains(startDifference)
+              ? LeaseAlarmMessages.startNotification(item, startDifference) : null)
+          .expireNotification(days.contains(expireDifference)
+              ? LeaseAlarmMessages.expireNotification(item, expireDifference) : null)
+          .build();
+
+      return result.hasWork() ? result : null;
     };
   }
-}
 
+  private LeaseStatus nextStatus(LeaseAlarmItem item, LocalDate today, LocalDate expireDate) {
+    if (item.getLeaseStatus() == LeaseStatus.PROCEEDING
+        && item.getLeaseEndDate().equals(expireDate)) {
+      return LeaseStatus.EXPIRED;
+    }
+    if (item.getLeaseStatus() == LeaseStatus.AWAIT && item.getLeaseStartDate().equals(today)) {
+      return LeaseStatus.PROCEEDING;
+    }
+    return null;
+  }
+}
@@ -6,14 +6,19 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,89 +29,150 @@ public class BatchReaderConfig {
 
   private final EntityManagerFactory emf;
 
+  private final DataSource dataSource;
+
   private final int PAGE_SIZE = 100;
 
   @Bean
   @StepScope
   public JpaPagingItemReader<Lease> leaseEndItemReader(
-      @Value("#{jobParameters[today]}") Date today
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[chunkSize] ?: 100}") int chunkSize,
+      @Value("#{stepExecutionContext[minId]}") Long minId,
+      @Value("#{stepExecutionContext[maxId]}") Long maxId
   ) {
     LocalDate yesterday = today.toLocalDate().minusDays(1);
 
     String query = "SELECT l FROM Lease l WHERE l.leaseStatus = :leaseStatus and "
-        + "l.leaseEndDate = :expireDate";
+        + "l.leaseEndDate = :expireDate and l.id between :minId and :maxId order by l.id";
 
     Map<String, Object> params = new HashMap<>();
     params.put("leaseStatus", LeaseStatus.PROCEEDING);
     params.put("expireDate", yesterday);
+    params.put("minId", minId);
+    params.put("maxId", maxId);
 
-    return new JpaPagingItemReaderBuilder<Lease>()
-        .entityManagerFactory(emf)
-        .queryString(query)
-        .parameterValues(params)
-        .pageSize(PAGE_SIZE)
-        .name("leaseEndItemReader")
-        .build();
+    return statusUpdatingItemReader("leaseEndItemReader", query, params, chunkSize);
   }
 
   @Bean
   @StepScope
   public JpaPagingItemReader<Lease> leaseStartItemReader(
-      @Value("#{jobParameters[today]}") Date today
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[chunkSize] ?: 100}") int chunkSize,
+      @Value("#{stepExecutionContext[minId]}") Long minId,
+      @Value("#{stepExecutionContext[maxId]}") Long maxId
   ) {
     String query = "SELECT l from Lease l WHERE l.leaseStatus = :leaseStatus and "
-        + "l.leaseStartDate = :startDate";
+        + "l.leaseStartDate = :startDate and l.id between :minId and :maxId order by l.id";
 
     Map<String, Object> params = new HashMap<>();
     params.put("leaseStatus", LeaseStatus.AWAIT);
     params.put("startDate", today.toLocalDate());
+    params.put("minId", minId);
+    params.put("maxId", maxId);
 
-    return new JpaPagingItemReaderBuilder<Lease>()
-        .entityManagerFactory(emf)
-        .queryString(query)
-        .parameterValues(params)
-        .pageSize(PAGE_SIZE)
-        .name("leaseStartItemReader")
-        .build();
+    return statusUpdatingItemReader("leaseStartItemReader", query, params, chunkSize);
   }
 
   @Bean
   @StepScope
-  public JpaPagingItemReader<Lease> alarmStartItemReader(
+  public JdbcPagingItemReader<LeaseAlarmItem> alarmStartItemReader(
       @Value("#{jobParameters[startDate]}") Date startDate,
-      @Value("#{jobParameters[daysToNotify]}") String daysToNotify) {
+      @Value("#{jobParameters[daysToNotify]}") String daysToNotify) throws Exception {
 
-    String query = "SELECT l from Lease l WHERE l.leaseStartDate IN :startDates";
-    Map<String, Object> params = new HashMap<>();
-    params.put("startDates", generateDatesFromDayToNotify(daysToNotify, startDate));
-
-    return new JpaPagingItemReaderBuilder<Lease>()
-        .entityManagerFactory(emf)
-        .queryString(query)
-        .parameterValues(params)
-        .pageSize(PAGE_SIZE)
-        .name("alarmStartItemReader")
-        .build();
+    return leaseAlarmItemReader("alarmStartItemReader", "where l.lease_start_date in (:dates)",
+        Map.of("dates", generateDatesFromDayToNotify(daysToNotify, startDate)), PAGE_SIZE);
   }
 
   @Bean
   @StepScope
-  public JpaPagingItemReader<Lease> alarmExpireItemReader(
+  public JdbcPagingItemReader<LeaseAlarmItem> alarmExpireItemReader(
       @Value("#{jobParameters[expireDate]}") Date expireDate,
-      @Value("#{jobParameters[daysToNotify]}") String daysToNotify) {
-    String query = "SELECT l from Lease l WHERE l.leaseEndDate IN :endDates";
-    Map<String, Object> params = new HashMap<>();
-    params.put("endDates", generateDatesFromDayToNotify(daysToNotify, expireDate));
+      @Value("#{jobParameters[daysToNotify]}") String daysToNotify) throws Exception {
+
+    return leaseAlarmItemReader("alarmExpireItemReader", "where l.lease_end_date in (:dates)",
+        Map.of("dates", generateDatesFromDayToNotify(daysToNotify, expireDate)), PAGE_SIZE);
+  }
+
+  // 상태 변경 대상과 알림 대상이 포함된 날짜 범위의 임대 건을 한 번에 읽는다.
+  @Bean
+  @StepScope
+  public JdbcPagingItemReader<LeaseAlarmItem> leaseSweepItemReader(
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[daysToNotify]}") String daysToNotify,
+      @Value("#{jobParameters[pageSize] ?: 100}") int pageSize) throws Exception {
+
+    LocalDate expireDate = today.toLocalDate().minusDays(1);
+
+    // 상태 변경 대상(오늘 시작, 어제 만료)은 알림 날짜 설정과 관계없이 포함
+    Set<LocalDate> startDates = new HashSet<>(generateDatesFromDayToNotify(daysToNotify, today));
+    startDates.add(today.toLocalDate());
 
-    return new JpaPagingItemReaderBuilder<Lease>()
-        .entityManagerFactory(emf)
-        .queryString(query)
+    Set<LocalDate> endDates = new HashSet<>(
+        generateDatesFromDayToNotify(daysToNotify, Date.valueOf(expireDate)));
+    endDates.add(expireDate);
+
+    return leaseAlarmItemReader("leaseSweepItemReader",
+        "where l.lease_start_date in (:startDates) or l.lease_end_date in (:endDates)",
+        Map.of("startDates", startDates, "endDates", endDates), pageSize);
+  }
+
+  // 알림에 필요한 컬럼만 조회하며, lease_id 기준 keyset 방식(lease_id > 마지막 id)으로 페이지를 읽는다.
+  private JdbcPagingItemReader<LeaseAlarmItem> leaseAlarmItemReader(String name,
+      String whereClause, Map<String, Object> params, int pageSize) throws Exception {
+
+    SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+    queryProvider.setDataSource(dataSource);
+    queryProvider.setSelectClause("select l.lease_id, l.lease_status, l.lease_start_date, "
+        + "l.lease_end_date, c.customer_id, c.customer_email, o.office_name");
+    queryProvider.setFromClause("from lease l "
+        + "join customer c on c.customer_id = l.customer_id "
+        + "join office o on o.office_id = l.office_id");
+    queryProvider.setWhereClause(whereClause);
+    queryProvider.setSortKey("lease_id");
+
+    return new JdbcPagingItemReaderBuilder<LeaseAlarmItem>()
+        .dataSource(dataSource)
+        .queryProvider(queryProvider.getObject())
         .parameterValues(params)
-        .pageSize(PAGE_SIZE)
-        .name("alarmExpireItemReader")
+        .rowMapper((rs, rowNum) -> LeaseAlarmItem.builder()
+            .leaseId(rs.getLong("lease_id"))
+            .leaseStatus(LeaseStatus.valueOf(rs.getString("lease_status")))
+            .customerId(rs.getLong("customer_id"))
+            .customerEmail(rs.getString("customer_email"))
+            .officeName(rs.getString("office_name"))
+            .leaseStartDate(rs.getObject("lease_start_date", LocalDate.class))
+            .leaseEndDate(rs.getObject("lease_end_date", LocalDate.class))
+            .build())
+        .pageSize(pageSize)
+        .fetchSize(pageSize)
+        .name(name)
         .build();
   }
 
+  // writer가 상태를 변경하면 읽은 건들이 조회 조건에서 빠지므로, offset을 증가시키면 그만큼 건너뛰게 된다.
+  // 항상 첫 페이지를 읽도록 하고, 한 페이지를 모두 쓴 뒤 다음 페이지를 읽도록 pageSize를 chunkSize와 맞춘다.
+  // 재시작 시 읽은 개수만큼 건너뛰면 처리되지 않은 건을 놓치므로 상태를 저장하지 않는다.
+  // 처리된 건은 조회 조건에서 빠지므로 처음부터 다시 읽어도 안전하다.
+  private JpaPagingItemReader<Lease> statusUpdatingItemReader(String name, String query,
+      Map<String, Object> params, int pageSize) {
+    JpaPagingItemReader<Lease> reader = new JpaPagingItemReader<>() {
+      @Override
+      public int getPage() {
+        return 0;
+      }
+    };
+
+    reader.setEntityManagerFactory(emf);
+    reader.setQueryString(query);
+    reader.setParameterValues(params);
+    reader.setPageSize(pageSize);
+    reader.setName(name);
+    reader.setSaveState(false);
+    return reader;
+  }
+
   private List<LocalDate> generateDatesFromDayToNotify(String daysToNotify, Date today) {
     return Arrays.stream(daysToNotify.split(","))
         .map(Integer::parseInt)
@@ -0,0 +1,52 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import java.sql.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@Configuration
+@RequiredArgsConstructor
+public class BatchTaskletConfig {
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  private final ObjectProvider<LeaseStatusChangeListener> listeners;
+
+  @Bean
+  @StepScope
+  public LeaseStatusBulkUpdateTasklet leaseEndBulkUpdateTasklet(
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[chunkSize] ?: 100}") int chunkSize,
+      @Value("#{stepExecutionContext[minId]}") Long minId,
+      @Value("#{stepExecutionContext[maxId]}") Long maxId
+  ) {
+    return new LeaseStatusBulkUpdateTasklet(jdbcTemplate, listeners(), LeaseStatus.PROCEEDING,
+        LeaseStatus.EXPIRED, "lease_end_date = :date", today.toLocalDate().minusDays(1),
+        minId, maxId, chunkSize);
+  }
+
+  @Bean
+  @StepScope
+  public LeaseStatusBulkUpdateTasklet leaseStartBulkUpdateTasklet(
+      @Value("#{jobParameters[today]}") Date today,
+      @Value("#{jobParameters[chunkSize] ?: 100}") int chunkSize,
+      @Value("#{stepExecutionContext[minId]}") Long minId,
+      @Value("#{stepExecutionContext[maxId]}") Long maxId
+  ) {
+    return new LeaseStatusBulkUpdateTasklet(jdbcTemplate, listeners(), LeaseStatus.AWAIT,
+        LeaseStatus.PROCEEDING, "lease_start_date = :date", today.toLocalDate(),
+        minId, maxId, chunkSize);
+  }
+
+  private List<LeaseStatusChangeListener> listeners() {
+    return listeners.orderedStream().collect(Collectors.toList());
+  }
+}
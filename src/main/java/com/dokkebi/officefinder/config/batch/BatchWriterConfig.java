@@ -1,11 +1,13 @@
 package com.dokkebi.officefinder.config.batch;
 
 import com.dokkebi.officefinder.entity.lease.Lease;
+import com.dokkebi.officefinder.service.notification.NotificationService;
 import javax.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 @RequiredArgsConstructor
@@ -13,10 +15,24 @@ public class BatchWriterConfig {
 
   private final EntityManagerFactory emf;
 
+  private final JdbcTemplate jdbcTemplate;
+
+  private final NotificationService notificationService;
+
   @Bean
   public JpaItemWriter<Lease> leaseItemWriter(){
     JpaItemWriter<Lease> jpaItemWriter = new JpaItemWriter<>();
     jpaItemWriter.setEntityManagerFactory(emf);
     return jpaItemWriter;
   }
+
+  @Bean
+  public CustomerNotificationItemWriter customerNotificationItemWriter() {
+    return new CustomerNotificationItemWriter(jdbcTemplate, notificationService);
+  }
+
+  @Bean
+  public LeaseSweepItemWriter leaseSweepItemWriter() {
+    return new LeaseSweepItemWriter(jdbcTemplate, customerNotificationItemWriter());
+  }
 }
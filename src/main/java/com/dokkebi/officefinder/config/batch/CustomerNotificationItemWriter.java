@@ -0,0 +1,84 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.exception.CustomException;
+import com.dokkebi.officefinder.service.notification.NotificationService;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
+import com.dokkebi.officefinder.service.notification.dto.NotificationResponseDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 청크 단위로 모인 고객 알림을 하나의 JDBC batch insert로 저장합니다.
+ * <p>
+ * SSE 전송은 청크 트랜잭션이 커밋된 이후에 수행되어, 롤백된 알림이 전송되지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CustomerNotificationItemWriter implements ItemWriter<NotificationEvent> {
+
+  private static final String INSERT_SQL = "INSERT INTO customer_notification "
+      + "(title, content, notification_type, customer_id, created_at, last_modified_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final NotificationService notificationService;
+
+  @Override
+  public void write(List<? extends NotificationEvent> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+
+    // JPA auditing을 거치지 않으므로 생성 시간을 직접 지정
+    LocalDateTime now = LocalDateTime.now();
+    Timestamp timestamp = Timestamp.valueOf(now);
+
+    jdbcTemplate.batchUpdate(INSERT_SQL, items, items.size(), (ps, event) -> {
+      ps.setString(1, event.getTitle());
+      ps.setString(2, event.getContent());
+      ps.setString(3, event.getNotificationType().name());
+      ps.setLong(4, event.getRecipientId());
+      ps.setTimestamp(5, timestamp);
+      ps.setTimestamp(6, timestamp);
+    });
+
+    List<NotificationEvent> events = new ArrayList<>(items);
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      push(events, now);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        push(events, now);
+      }
+    });
+  }
+
+  private void push(List<NotificationEvent> events, LocalDateTime createdAt) {
+    for (NotificationEvent event : events) {
+      NotificationResponseDto notification = NotificationResponseDto.builder()
+          .title(event.getTitle())
+          .content(event.getContent())
+          .createdAt(createdAt.toLocalDate())
+          .build();
+
+      try {
+        notificationService.push(event.getEmail(), notification);
+      } catch (CustomException e) {
+        log.warn("sse notification send failed. email : {}", event.getEmail());
+      }
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 임대 알림 전송, 상태 변경에 필요한 컬럼만 조회한 결과
+@Getter
+@Builder
+@AllArgsConstructor
+public class LeaseAlarmItem {
+
+  private Long leaseId;
+  private LeaseStatus leaseStatus;
+  private Long customerId;
+  private String customerEmail;
+  private String officeName;
+  private LocalDate leaseStartDate;
+  private LocalDate leaseEndDate;
+}
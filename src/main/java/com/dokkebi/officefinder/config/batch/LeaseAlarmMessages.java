@@ -0,0 +1,38 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.NotificationType;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
+
+// 임대 시작, 만료 알림의 내용을 생성
+public final class LeaseAlarmMessages {
+
+  private LeaseAlarmMessages() {
+  }
+
+  public static NotificationEvent startNotification(LeaseAlarmItem item, int daysDifference) {
+    String officeName = item.getOfficeName();
+
+    if (daysDifference == 0) {
+      return NotificationEvent.toCustomer(item.getCustomerId(), item.getCustomerEmail(),
+          NotificationType.LEASE_PROCEED, "임대 시작", officeName + "에 대한 임대가 시작되었습니다 :)");
+    }
+
+    return NotificationEvent.toCustomer(item.getCustomerId(), item.getCustomerEmail(),
+        NotificationType.LEASE_REMINDER, "임대 시작 임박",
+        officeName + "에 대한 임대 시작 " + daysDifference + "일 남았습니다 :)");
+  }
+
+  public static NotificationEvent expireNotification(LeaseAlarmItem item, int daysDifference) {
+    String officeName = item.getOfficeName();
+
+    if (daysDifference == 0) {
+      return NotificationEvent.toCustomer(item.getCustomerId(), item.getCustomerEmail(),
+          NotificationType.LEASE_EXPIRED, "임대 만료",
+          officeName + "에 대한 임대가 만료되었습니다. 이용해 주셔서 감사합니다 :)");
+    }
+
+    return NotificationEvent.toCustomer(item.getCustomerId(), item.getCustomerEmail(),
+        NotificationType.LEASE_REMINDER, "임대 만료 임박",
+        officeName + "에 대한 임대가 만료 " + daysDifference + "일 남았습니다 :)");
+  }
+}
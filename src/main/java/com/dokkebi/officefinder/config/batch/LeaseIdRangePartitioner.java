@@ -0,0 +1,70 @@
+package com.dokkebi.officefinder.config.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 조건에 맞는 임대 건의 id 범위(min ~ max)를 gridSize 개의 구간으로 나누어 각 worker step에 전달합니다.
+ * <p>
+ * 파티션 step은 애플리케이션 시작 시 만들어지므로, 구간 개수는 step builder의 gridSize 대신 생성 시 받은 값(job 파라미터)을 사용합니다.
+ * <p>
+ * 각 파티션의 ExecutionContext에는 minId, maxId가 저장되며, worker step의 reader는 이 구간만 읽습니다.
+ */
+@RequiredArgsConstructor
+public class LeaseIdRangePartitioner implements Partitioner {
+
+  public static final String MIN_ID = "minId";
+  public static final String MAX_ID = "maxId";
+
+  private final EntityManagerFactory emf;
+
+  // "SELECT min(l.id), max(l.id) FROM Lease l WHERE ..." 형태의 쿼리
+  private final String rangeQuery;
+
+  private final Map<String, Object> params;
+
+  private final int gridSize;
+
+  @Override
+  public Map<String, ExecutionContext> partition(int defaultGridSize) {
+    Object[] range = findIdRange();
+    Map<String, ExecutionContext> partitions = new HashMap<>();
+
+    // 대상이 없다면 worker step을 실행하지 않는다.
+    if (range[0] == null) {
+      return partitions;
+    }
+
+    long minId = ((Number) range[0]).longValue();
+    long maxId = ((Number) range[1]).longValue();
+    long targetSize = (maxId - minId) / Math.max(gridSize, 1) + 1;
+
+    int number = 0;
+    for (long start = minId; start <= maxId; start += targetSize) {
+      ExecutionContext context = new ExecutionContext();
+      context.putLong(MIN_ID, start);
+      context.putLong(MAX_ID, Math.min(start + targetSize - 1, maxId));
+      partitions.put("partition" + number++, context);
+    }
+
+    return partitions;
+  }
+
+  private Object[] findIdRange() {
+    EntityManager em = emf.createEntityManager();
+
+    try {
+      TypedQuery<Object[]> query = em.createQuery(rangeQuery, Object[].class);
+      params.forEach(query::setParameter);
+      return query.getSingleResult();
+    } finally {
+      em.close();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 파티션의 id 범위에서 대상 임대를 id 순으로 chunkSize개씩 찾아(keyset), 한 번의 UPDATE 문으로 상태를 변경합니다.
+ * <p>
+ * 대상이 드문드문 있어도 id 구간을 훑지 않고 다음 대상으로 바로 이동하므로, 트랜잭션 수는 대상 수 / chunkSize 정도입니다. execute 한
+ * 번이 하나의 트랜잭션이므로 chunkSize개만큼만 락을 잡으며, 마지막으로 처리한 id를 ExecutionContext에 저장하여 재시작 시 이어서
+ * 처리합니다.
+ */
+public class LeaseStatusBulkUpdateTasklet implements Tasklet {
+
+  private static final String CURSOR = "bulkUpdate.cursor";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final List<LeaseStatusChangeListener> listeners;
+  private final LeaseStatus from;
+  private final LeaseStatus to;
+  private final String condition;
+  private final MapSqlParameterSource params;
+  private final long minId;
+  private final long maxId;
+  private final int chunkSize;
+
+  /**
+   * @param condition 상태 외의 대상 조건(ex: "lease_end_date = :date"), params의 파라미터를 사용
+   */
+  public LeaseStatusBulkUpdateTasklet(NamedParameterJdbcTemplate jdbcTemplate,
+      List<LeaseStatusChangeListener> listeners, LeaseStatus from, LeaseStatus to,
+      String condition, LocalDate date, long minId, long maxId, int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.listeners = listeners;
+    this.from = from;
+    this.to = to;
+    this.condition = condition;
+    this.params = new MapSqlParameterSource()
+        .addValue("from", from.name())
+        .addValue("to", to.name())
+        .addValue("date", date);
+    this.minId = minId;
+    this.maxId = maxId;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+    ExecutionContext context = chunkContext.getStepContext().getStepExecution()
+        .getExecutionContext();
+
+    long cursor = context.containsKey(CURSOR) ? context.getLong(CURSOR) : minId - 1;
+
+    MapSqlParameterSource pageParams = new MapSqlParameterSource(params.getValues())
+        .addValue("cursor", cursor)
+        .addValue("maxId", maxId)
+        .addValue("size", chunkSize)
+        .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+    // 변경할 행을 잠근 뒤 id를 얻고, 해당 id들만 변경한다.
+    List<Long> leaseIds = jdbcTemplate.queryForList("SELECT lease_id FROM lease "
+        + "WHERE lease_status = :from AND " + condition + " "
+        + "AND lease_id > :cursor AND lease_id <= :maxId "
+        + "ORDER BY lease_id LIMIT :size FOR UPDATE", pageParams, Long.class);
+
+    if (leaseIds.isEmpty()) {
+      return RepeatStatus.FINISHED;
+    }
+
+    int updated = jdbcTemplate.update("UPDATE lease SET lease_status = :to, "
+        + "last_modified_at = :now WHERE lease_id IN (:ids)", pageParams.addValue("ids", leaseIds));
+
+    if (!listeners.isEmpty()) {
+      afterCommit(() -> {
+        for (Long leaseId : leaseIds) {
+          listeners.forEach(listener -> listener.onStatusChanged(leaseId, from, to));
+        }
+      });
+    }
+
+    contribution.incrementWriteCount(updated);
+    context.putLong(CURSOR, leaseIds.get(leaseIds.size() - 1));
+
+    return RepeatStatus.continueIf(leaseIds.size() == chunkSize);
+  }
+
+  // 트랜잭션이 롤백된 변경이 전달되지 않도록 커밋 이후에 리스너를 호출한다.
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
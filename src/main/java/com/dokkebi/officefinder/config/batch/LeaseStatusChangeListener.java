@@ -0,0 +1,14 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+
+/**
+ * bulk update로 상태가 변경된 임대 건을 한 건씩 전달받기 위한 리스너입니다.
+ * <p>
+ * 등록된 리스너가 없다면 변경 대상 id를 조회하지 않고 UPDATE 문만 실행합니다. 리스너는 구간 트랜잭션이 커밋된 이후 트랜잭션 밖에서 호출되므로,
+ * DB에 기록이 필요하다면 새 트랜잭션에서 처리해야 합니다.
+ */
+public interface LeaseStatusChangeListener {
+
+  void onStatusChanged(Long leaseId, LeaseStatus from, LeaseStatus to);
+}
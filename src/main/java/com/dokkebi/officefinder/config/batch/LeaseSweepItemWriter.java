@@ -0,0 +1,114 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * sweep 결과를 처리 종류별로 나누어 한 번에 기록합니다.
+ * <p>
+ * 상태 변경은 하나의 JDBC batch UPDATE로, 알림은 CustomerNotificationItemWriter로 저장하며, 처리 종류별 건수를
+ * StepExecution의 ExecutionContext에 누적합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LeaseSweepItemWriter implements ItemWriter<LeaseSweepResult>, StepExecutionListener {
+
+  public static final String EXPIRED_COUNT = "sweep.expired.count";
+  public static final String STARTED_COUNT = "sweep.started.count";
+  public static final String START_ALARM_COUNT = "sweep.startAlarm.count";
+  public static final String EXPIRE_ALARM_COUNT = "sweep.expireAlarm.count";
+
+  private static final String UPDATE_SQL = "UPDATE lease SET lease_status = ?, "
+      + "last_modified_at = ? WHERE lease_id = ? AND lease_status = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final CustomerNotificationItemWriter notificationItemWriter;
+
+  @Override
+  public void write(List<? extends LeaseSweepResult> items) throws Exception {
+    List<LeaseSweepResult> transitions = items.stream()
+        .filter(item -> item.getNextStatus() != null)
+        .collect(Collectors.toList());
+
+    List<NotificationEvent> startAlarms = new ArrayList<>();
+    List<NotificationEvent> expireAlarms = new ArrayList<>();
+
+    for (LeaseSweepResult item : items) {
+      if (item.getStartNotification() != null) {
+        startAlarms.add(item.getStartNotification());
+      }
+      if (item.getExpireNotification() != null) {
+        expireAlarms.add(item.getExpireNotification());
+      }
+    }
+
+    updateStatus(transitions);
+
+    List<NotificationEvent> notifications = new ArrayList<>(startAlarms);
+    notifications.addAll(expireAlarms);
+    notificationItemWriter.write(notifications);
+
+    ExecutionContext context = StepSynchronizationManager.getContext().getStepExecution()
+        .getExecutionContext();
+    increment(context, EXPIRED_COUNT, count(transitions, LeaseStatus.EXPIRED));
+    increment(context, STARTED_COUNT, count(transitions, LeaseStatus.PROCEEDING));
+    increment(context, START_ALARM_COUNT, startAlarms.size());
+    increment(context, EXPIRE_ALARM_COUNT, expireAlarms.size());
+  }
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    ExecutionContext context = stepExecution.getExecutionContext();
+
+    log.info("lease sweep finished. read : {}, expired : {}, started : {}, start alarm : {}, "
+            + "expire alarm : {}", stepExecution.getReadCount(),
+        context.getLong(EXPIRED_COUNT, 0L), context.getLong(STARTED_COUNT, 0L),
+        context.getLong(START_ALARM_COUNT, 0L), context.getLong(EXPIRE_ALARM_COUNT, 0L));
+
+    return stepExecution.getExitStatus();
+  }
+
+  private void updateStatus(List<LeaseSweepResult> transitions) {
+    if (transitions.isEmpty()) {
+      return;
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    jdbcTemplate.batchUpdate(UPDATE_SQL, transitions, transitions.size(), (ps, item) -> {
+      ps.setString(1, item.getNextStatus().name());
+      ps.setTimestamp(2, now);
+      ps.setLong(3, item.getLeaseId());
+      ps.setString(4, item.getCurrentStatus().name());
+    });
+  }
+
+  private long count(List<LeaseSweepResult> transitions, LeaseStatus nextStatus) {
+    return transitions.stream()
+        .filter(item -> item.getNextStatus() == nextStatus)
+        .count();
+  }
+
+  private void increment(ExecutionContext context, String key, long count) {
+    context.putLong(key, context.getLong(key, 0L) + count);
+  }
+}
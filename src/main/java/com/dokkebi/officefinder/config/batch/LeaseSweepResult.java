@@ -0,0 +1,26 @@
+package com.dokkebi.officefinder.config.batch;
+
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 임대 건 하나에 대한 sweep 결과입니다.
+ * <p>
+ * 변경할 상태(nextStatus)와 전송할 알림은 해당되지 않으면 null 입니다.
+ */
+@Getter
+@Builder
+public class LeaseSweepResult {
+
+  private Long leaseId;
+  private LeaseStatus currentStatus;
+  private LeaseStatus nextStatus;
+  private NotificationEvent startNotification;
+  private NotificationEvent expireNotification;
+
+  public boolean hasWork() {
+    return nextStatus != null || startNotification != null || expireNotification != null;
+  }
+}
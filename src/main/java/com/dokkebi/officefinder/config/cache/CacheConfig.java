@@ -0,0 +1,69 @@
+package com.dokkebi.officefinder.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+  public static final String OFFICE_DETAIL = "OfficeDetail";
+  public static final String REVIEW = "Review";
+
+  private static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+  @Value("${cache.local.max-size:1000}")
+  private long localMaxSize;
+  @Value("${cache.local.ttl-seconds:60}")
+  private long localTtlSeconds;
+
+  /*
+   * L1은 노드마다 따로 존재하므로 변경 사항은 pub/sub으로 다른 노드에 전달한다.
+   * 메시지가 유실되는 경우를 대비하여 L1의 TTL은 짧게, 크기는 제한하여 사용한다.
+   */
+  @Bean
+  @Primary
+  public TwoLevelCacheManager twoLevelCacheManager(
+      @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+      RedisConnectionFactory redisConnectionFactory,
+      RedisMessageListenerContainer redisMessageListenerContainer) {
+    Caffeine<Object, Object> localCacheBuilder = Caffeine.newBuilder()
+        .maximumSize(localMaxSize)
+        .expireAfterWrite(Duration.ofSeconds(localTtlSeconds));
+
+    TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager,
+        localCacheBuilder, List.of(OFFICE_DETAIL, REVIEW),
+        invalidationTemplate(redisConnectionFactory), INVALIDATION_CHANNEL);
+
+    redisMessageListenerContainer.addMessageListener(cacheManager,
+        new ChannelTopic(INVALIDATION_CHANNEL));
+
+    return cacheManager;
+  }
+
+  // 캐시 key의 타입(Long 등)이 그대로 유지되도록 JDK 직렬화를 사용한다.
+  private RedisTemplate<String, Object> invalidationTemplate(
+      RedisConnectionFactory redisConnectionFactory) {
+    RedisTemplate<String, Object> template = new RedisTemplate<>();
+    template.setConnectionFactory(redisConnectionFactory);
+    template.setKeySerializer(new StringRedisSerializer());
+    template.setValueSerializer(new JdkSerializationRedisSerializer());
+    template.afterPropertiesSet();
+
+    return template;
+  }
+}
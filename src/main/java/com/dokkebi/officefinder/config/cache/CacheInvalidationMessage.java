@@ -0,0 +1,19 @@
+package com.dokkebi.officefinder.config.cache;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다른 노드의 L1 캐시를 비우기 위해 Redis pub/sub으로 전달하는 메시지입니다. key가 null이면 해당 캐시 전체를 비웁니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CacheInvalidationMessage implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String origin;
+  private String cacheName;
+  private Object key;
+}
@@ -0,0 +1,43 @@
+package com.dokkebi.officefinder.config.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 캐시 값 직렬화기 모음입니다. 두 직렬화기 모두 같은 ObjectMapper 설정(날짜 타입, 클래스 정보 포함)을 사용하고 저장 형식만 다릅니다.
+ */
+public final class CacheSerializers {
+
+  private CacheSerializers() {
+  }
+
+  // 기존 캐시가 사용하는 JSON 형식
+  public static RedisSerializer<Object> json() {
+    return new GenericJackson2JsonRedisSerializer(configure(new ObjectMapper()));
+  }
+
+  // 필드 이름, 클래스 이름을 바이너리로 압축하는 Smile 형식
+  public static RedisSerializer<Object> smile() {
+    return new SmileRedisSerializer(configure(new ObjectMapper(new SmileFactory())), json());
+  }
+
+  private static ObjectMapper configure(ObjectMapper objectMapper) {
+    objectMapper.registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+        DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+
+    return objectMapper;
+  }
+}
@@ -0,0 +1,70 @@
+package com.dokkebi.officefinder.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Jackson Smile(바이너리 JSON) 형식의 Redis 직렬화기입니다.
+ * <p>
+ * 캐시의 직렬화 형식을 JSON에서 Smile로 바꾸면 TTL이 지나기 전까지 JSON 값이 남아 있으므로, Smile 헤더가 없는 값은 fallback(JSON)
+ * 직렬화기로 읽습니다.
+ */
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+  // Smile 데이터는 항상 ":)\n" 헤더로 시작한다.
+  private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+  private final ObjectMapper objectMapper;
+  private final RedisSerializer<Object> fallback;
+
+  public SmileRedisSerializer(ObjectMapper objectMapper, RedisSerializer<Object> fallback) {
+    this.objectMapper = objectMapper;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public byte[] serialize(Object value) throws SerializationException {
+    if (value == null) {
+      return new byte[0];
+    }
+
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (IOException e) {
+      throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+
+    if (!hasSmileHeader(bytes)) {
+      return fallback.deserialize(bytes);
+    }
+
+    try {
+      return objectMapper.readValue(bytes, Object.class);
+    } catch (IOException e) {
+      throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+    }
+  }
+
+  private boolean hasSmileHeader(byte[] bytes) {
+    if (bytes.length < SMILE_HEADER.length) {
+      return false;
+    }
+
+    for (int i = 0; i < SMILE_HEADER.length; i++) {
+      if (bytes[i] != SMILE_HEADER[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,127 @@
+package com.dokkebi.officefinder.config.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * 로컬 Caffeine 캐시(L1)를 먼저 조회하고, 없을 경우 Redis 캐시(L2)를 조회하는 2단계 캐시입니다. L2에서 읽은 값은 L1에 채워두어 같은 노드의 다음
+ * 요청은 네트워크 왕복과 역직렬화 없이 처리됩니다.
+ * <p>
+ * 값이 변경(put, evict, clear)되면 invalidationPublisher를 통해 다른 노드에 알리고, 알림을 받은 노드는 {@link #evictLocal(Object)}로
+ * 자신의 L1만 비웁니다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+  private final String name;
+  private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+  private final Cache remoteCache;
+  private final Consumer<Object> invalidationPublisher;
+
+  public TwoLevelCache(String name,
+      com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache, Cache remoteCache) {
+    this(name, localCache, remoteCache, key -> {
+    });
+  }
+
+  public TwoLevelCache(String name,
+      com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache, Cache remoteCache,
+      Consumer<Object> invalidationPublisher) {
+    super(true);
+    this.name = name;
+    this.localCache = localCache;
+    this.remoteCache = remoteCache;
+    this.invalidationPublisher = invalidationPublisher;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return localCache;
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    Object value = localCache.getIfPresent(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    ValueWrapper remoteValue = remoteCache.get(key);
+
+    if (remoteValue == null) {
+      return null;
+    }
+
+    value = toStoreValue(remoteValue.get());
+    localCache.put(key, value);
+
+    return value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    // 같은 노드에서 동시에 들어온 요청은 L1의 compute를 통해 한 번만 L2 조회, 값 생성을 수행한다.
+    return (T) fromStoreValue(localCache.get(key, k -> {
+      ValueWrapper remoteValue = remoteCache.get(k);
+
+      if (remoteValue != null) {
+        return toStoreValue(remoteValue.get());
+      }
+
+      T value = load(k, valueLoader);
+      remoteCache.put(k, value);
+
+      return toStoreValue(value);
+    }));
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    remoteCache.put(key, value);
+    localCache.put(key, toStoreValue(value));
+    invalidationPublisher.accept(key);
+  }
+
+  @Override
+  public void evict(Object key) {
+    remoteCache.evict(key);
+    localCache.invalidate(key);
+    invalidationPublisher.accept(key);
+  }
+
+  @Override
+  public void clear() {
+    remoteCache.clear();
+    localCache.invalidateAll();
+    invalidationPublisher.accept(null);
+  }
+
+  // 다른 노드의 변경 알림을 받았을 때 L1만 비운다. key가 null이면 전체를 비운다.
+  public void evictLocal(Object key) {
+    if (key == null) {
+      localCache.invalidateAll();
+      return;
+    }
+
+    localCache.invalidate(key);
+  }
+
+  private <T> T load(Object key, Callable<T> valueLoader) {
+    try {
+      return valueLoader.call();
+    } catch (RuntimeException e) {
+      // CustomException 등은 그대로 전달하여 기존 예외 처리 흐름을 유지
+      throw e;
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.dokkebi.officefinder.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 캐시 이름마다 로컬 Caffeine 캐시와 Redis 캐시를 묶은 {@link TwoLevelCache}를 만들어주는 CacheManager 입니다. 트랜잭션 안에서의
+ * put, evict는 커밋 이후에 반영됩니다.
+ * <p>
+ * 값이 변경되면 invalidation 채널로 메시지를 발행하고, 같은 채널을 구독하는 다른 노드는 자신의 L1에서 해당 key를 제거합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements
+    MessageListener {
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+  private final CacheManager remoteCacheManager;
+  private final Caffeine<Object, Object> localCacheBuilder;
+  private final List<String> cacheNames;
+  private final RedisTemplate<String, Object> invalidationTemplate;
+  private final String invalidationChannel;
+
+  public TwoLevelCacheManager(CacheManager remoteCacheManager,
+      Caffeine<Object, Object> localCacheBuilder, List<String> cacheNames,
+      RedisTemplate<String, Object> invalidationTemplate, String invalidationChannel) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.localCacheBuilder = localCacheBuilder;
+    this.cacheNames = cacheNames;
+    this.invalidationTemplate = invalidationTemplate;
+    this.invalidationChannel = invalidationChannel;
+    setTransactionAware(true);
+  }
+
+  @Override
+  protected Collection<? extends Cache> loadCaches() {
+    return cacheNames.stream()
+        .map(this::createCache)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  protected Cache getMissingCache(String name) {
+    return createCache(name);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = invalidationTemplate.getValueSerializer().deserialize(message.getBody());
+
+    if (!(body instanceof CacheInvalidationMessage)) {
+      return;
+    }
+
+    CacheInvalidationMessage invalidation = (CacheInvalidationMessage) body;
+
+    // 자신이 발행한 메시지는 이미 L1에 반영되어 있다.
+    if (nodeId.equals(invalidation.getOrigin())) {
+      return;
+    }
+
+    TwoLevelCache cache = twoLevelCaches.get(invalidation.getCacheName());
+
+    if (cache != null) {
+      cache.evictLocal(invalidation.getKey());
+    }
+  }
+
+  private Cache createCache(String name) {
+    return twoLevelCaches.computeIfAbsent(name,
+        cacheName -> new TwoLevelCache(cacheName, localCacheBuilder.build(),
+            remoteCacheManager.getCache(cacheName), key -> publish(cacheName, key)));
+  }
+
+  private void publish(String cacheName, Object key) {
+    try {
+      invalidationTemplate.convertAndSend(invalidationChannel,
+          new CacheInvalidationMessage(nodeId, cacheName, key));
+    } catch (RuntimeException e) {
+      // 발행에 실패해도 요청은 계속 처리하고, 다른 노드의 L1은 TTL 이후 갱신된다.
+      log.warn("cache invalidation publish failed. cache : {}, key : {}", cacheName, key, e);
+    }
+  }
+}
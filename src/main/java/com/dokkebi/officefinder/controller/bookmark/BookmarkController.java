@@ -2,11 +2,13 @@ package com.dokkebi.officefinder.controller.bookmark;
 
 import com.dokkebi.officefinder.controller.bookmark.dto.BookmarkDto;
 import com.dokkebi.officefinder.controller.bookmark.dto.SubmitDto;
+import com.dokkebi.officefinder.dto.CursorPageDto;
 import com.dokkebi.officefinder.dto.ResponseDto;
 import com.dokkebi.officefinder.entity.bookmark.Bookmark;
 import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
 import com.dokkebi.officefinder.security.TokenProvider;
 import com.dokkebi.officefinder.service.bookmark.BookmarkService;
+import com.dokkebi.officefinder.utils.CursorToken;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -38,11 +40,23 @@ public class BookmarkController {
       @RequestParam(defaultValue = "0") Integer page,
       @RequestParam(defaultValue = "20") Integer size) {
     Long customerId = tokenProvider.getUserIdFromHeader(jwt);
-    Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    Pageable pageable = PageRequest.of(page, CursorPageDto.clampSize(size),
+        Sort.by(Sort.Direction.DESC, "createdAt"));
 
     return bookmarkService.getBookmarks(customerId, pageable);
   }
 
+  @GetMapping(params = "after")
+  public CursorPageDto<BookmarkDto> getBookmarksAfter(@RequestHeader("Authorization") String jwt,
+      @RequestParam(defaultValue = "") String after,
+      @RequestParam(defaultValue = "20") Integer size) {
+    Long customerId = tokenProvider.getUserIdFromHeader(jwt);
+    Long lastBookmarkId = CursorToken.decode(CursorToken.ID_SORT_KEY, after);
+
+    return CursorPageDto.of(bookmarkService.getBookmarksAfter(customerId, lastBookmarkId,
+        CursorPageDto.clampSize(size)), BookmarkDto::getId);
+  }
+
   @DeleteMapping
   public void deleteAllBookmark(@RequestHeader("Authorization") String jwt){
     bookmarkService.deleteAllBookMark(tokenProvider.getUserIdFromHeader(jwt));
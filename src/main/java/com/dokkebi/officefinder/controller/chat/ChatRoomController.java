@@ -3,8 +3,10 @@ package com.dokkebi.officefinder.controller.chat;
 import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.ChatMessageResponse;
 import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.ChatRoomStatus;
 import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.CreateRoomResponse;
+import com.dokkebi.officefinder.dto.CursorPageDto;
 import com.dokkebi.officefinder.dto.ResponseDto;
 import com.dokkebi.officefinder.service.chat.ChatService;
+import com.dokkebi.officefinder.utils.CursorToken;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -46,6 +49,28 @@ public class ChatRoomController {
     return chatService.roomInfo(roomUid, jwt);
   }
 
+  // 특정 채팅방 조회(커서) - before 커서 이전의 메세지를 최신순으로 size개씩 조회
+  @GetMapping(value = "/room/{roomUid}", params = "before")
+  public CursorPageDto<ChatMessageResponse> roomHistory(@PathVariable String roomUid,
+      @RequestHeader("Authorization") String jwt,
+      @RequestParam(defaultValue = "") String before,
+      @RequestParam(defaultValue = "30") Integer size) {
+    Long beforeMessageId = CursorToken.decode(CursorToken.ID_SORT_KEY, before);
+
+    return CursorPageDto.of(chatService.roomHistory(roomUid, jwt, beforeMessageId,
+        CursorPageDto.clampSize(size)),
+        ChatMessageResponse::getMessageId);
+  }
+
+  // 특정 채팅방에서 since 메세지 id 이후에 도착한 메세지 조회
+  @GetMapping(value = "/room/{roomUid}", params = "since")
+  public List<ChatMessageResponse> roomMessagesSince(@PathVariable String roomUid,
+      @RequestHeader("Authorization") String jwt,
+      @RequestParam Long since,
+      @RequestParam(defaultValue = "100") Integer size) {
+    return chatService.roomMessagesSince(roomUid, jwt, since, CursorPageDto.clampSize(size));
+  }
+
   // 채팅 메세지 읽음 표시
   @PostMapping("/room/read-message/{roomUid}")
   public ResponseDto<String> readMessage(@PathVariable String roomUid,
@@ -59,4 +84,10 @@ public class ChatRoomController {
   public ResponseDto<Boolean> isNewMessage(@RequestHeader("Authorization") String jwt) {
     return new ResponseDto<>("success", chatService.isNewMessage(jwt));
   }
+
+  // 읽지 않은 메세지 수 조회
+  @GetMapping("/room/unread-count")
+  public ResponseDto<Long> unreadCount(@RequestHeader("Authorization") String jwt) {
+    return new ResponseDto<>("success", chatService.countUnreadMessage(jwt));
+  }
 }
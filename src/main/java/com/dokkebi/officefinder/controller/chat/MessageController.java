@@ -1,23 +1,23 @@
 package com.dokkebi.officefinder.controller.chat;
 
 import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.SendMessage;
-import com.dokkebi.officefinder.service.chat.ChatService;
+import com.dokkebi.officefinder.service.chat.ChatMessageWriteBehind;
+import com.dokkebi.officefinder.service.chat.ChatRoomBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequiredArgsConstructor
 public class MessageController {
 
-  private final SimpMessageSendingOperations sendingOperations;
-  private final ChatService chatService;
+  private final ChatRoomBroadcaster chatRoomBroadcaster;
+  private final ChatMessageWriteBehind chatMessageWriteBehind;
 
   @MessageMapping("/chat/message")
   public void send(SendMessage message) {
-    sendingOperations.convertAndSend("/topic/chat/room/"+message.getRoomUid(),message);
-    chatService.send(message);
+    chatRoomBroadcaster.broadcast(message);
+    // 저장은 별도 스레드에서 모아서 처리하여 inbound 채널 스레드를 점유하지 않는다.
+    chatMessageWriteBehind.write(message);
   }
 }
-
@@ -37,6 +37,7 @@ public class ChatRoomDto {
     private String lastMessage;
     private LocalDateTime lastMessageTime;
     private boolean newMessage;
+    private long unreadCount;
   }
 
   @Getter
@@ -44,6 +45,7 @@ public class ChatRoomDto {
   @AllArgsConstructor
   @Builder
   public static class ChatMessageResponse{
+    private Long messageId;
     private boolean isMyMessage;
     private String sender;
     private String message;
@@ -3,11 +3,13 @@ package com.dokkebi.officefinder.controller.lease;
 import com.dokkebi.officefinder.controller.lease.dto.LeaseControllerDto.AgentLeaseLookUpResponse;
 import com.dokkebi.officefinder.controller.lease.dto.LeaseControllerDto.LeaseOfficeRequest;
 import com.dokkebi.officefinder.controller.lease.dto.LeaseControllerDto.LeaseSuccessResponse;
+import com.dokkebi.officefinder.dto.CursorPageDto;
 import com.dokkebi.officefinder.security.TokenProvider;
 import com.dokkebi.officefinder.service.lease.LeaseService;
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseLookUpServiceResponse;
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseOfficeRequestDto;
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseOfficeServiceResponse;
+import com.dokkebi.officefinder.utils.CursorToken;
 import io.swagger.v3.oas.annotations.Operation;
 import java.security.Principal;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -59,6 +62,19 @@ public class LeaseController {
     return leaseService.getLeaseList(principal.getName(), pageable);
   }
 
+  @Operation(summary = "임대 정보 조회(커서)", description = "after 커서를 이용하여 임대 정보를 최신순으로 조회할 수 있다.")
+  @PreAuthorize("hasRole('CUSTOMER')")
+  @GetMapping(value = "/customers/info/leases", params = "after")
+  public CursorPageDto<LeaseLookUpServiceResponse> getLeaseInfoAfter(Principal principal,
+      @RequestParam(defaultValue = "") String after,
+      @RequestParam(defaultValue = "20") Integer size) {
+
+    Long lastLeaseId = CursorToken.decode(CursorToken.ID_SORT_KEY, after);
+
+    return CursorPageDto.of(leaseService.getLeaseListAfter(principal.getName(), lastLeaseId,
+        CursorPageDto.clampSize(size)), LeaseLookUpServiceResponse::getLeaseId);
+  }
+
   @Operation(summary = "임대 정보 상세 조회", description = "임대 정보를 조회할 수 있다.")
   @PreAuthorize("hasRole('CUSTOMER')")
   @GetMapping("/customers/info/leases/{leaseId}")
@@ -5,27 +5,28 @@ import com.dokkebi.officefinder.controller.office.dto.OfficeDetailResponseDto;
 import com.dokkebi.officefinder.controller.office.dto.OfficeOverViewDto;
 import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
 import com.dokkebi.officefinder.controller.review.dto.ReviewControllerDto.ReviewDto;
+import com.dokkebi.officefinder.dto.CursorPageDto;
 import com.dokkebi.officefinder.dto.ResponseDto;
 import com.dokkebi.officefinder.entity.office.Office;
-import com.dokkebi.officefinder.entity.office.OfficePicture;
 import com.dokkebi.officefinder.entity.review.Review;
-import com.dokkebi.officefinder.exception.CustomErrorCode;
-import com.dokkebi.officefinder.exception.CustomException;
-import com.dokkebi.officefinder.repository.CustomerRepository;
-import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
 import com.dokkebi.officefinder.security.TokenProvider;
 import com.dokkebi.officefinder.service.bookmark.BookmarkService;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache.CustomerProfiles;
+import com.dokkebi.officefinder.service.office.OfficeDetailService;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader.OfficePictures;
 import com.dokkebi.officefinder.service.office.OfficeSearchService;
 import com.dokkebi.officefinder.service.review.ReviewService;
+import com.dokkebi.officefinder.utils.CursorToken;
 import io.swagger.v3.oas.annotations.Operation;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -44,8 +45,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class OfficeController {
 
   private final OfficeSearchService officeQueryService;
-  private final OfficePictureRepository officePictureRepository;
-  private final CustomerRepository customerRepository;
+  private final OfficeDetailService officeDetailService;
+  private final OfficePictureLoader officePictureLoader;
+  private final CustomerProfileCache customerProfileCache;
   private final ReviewService reviewService;
   private final TokenProvider tokenProvider;
   private final BookmarkService bookmarkService;
@@ -55,37 +57,49 @@ public class OfficeController {
   public Page<OfficeOverViewDto> showOfficeList(OfficeSearchCond cond,
       Pageable pageable) {
 
-    Page<Office> offices = officeQueryService.searchOfficeByDetailCondition(cond, pageable);
+    Page<Office> offices = officeQueryService.searchOfficeByDetailCondition(cond,
+        clampPageSize(pageable));
+    OfficePictures pictures = officePictureLoader.load(
+        offices.map(Office::getId).getContent());
 
     return offices.map(
-        content -> OfficeOverViewDto.fromEntity(content,
-            officePictureRepository.findByOfficeId(content.getId())));
+        content -> OfficeOverViewDto.fromEntity(content, pictures.get(content.getId())));
   }
 
-  @Operation(summary = "오피스 조회", description = "특정 오피스를 조회할 수 있다.")
-  @GetMapping("/{officeId}")
-  public OfficeDetailResponseDto showOfficeDetail(@PathVariable("officeId") Long officeId) {
-    Office officeInfo = officeQueryService.getOfficeInfo(officeId);
-    List<OfficePicture> officeImages = officePictureRepository.findByOfficeId(officeId);
-
-    List<String> imagePath = new ArrayList<>();
+  @Operation(summary = "오피스 검색(무한 스크롤)", description = "전체 개수를 계산하지 않고 다음 페이지 여부만 반환한다. count=false로 요청한다.")
+  @GetMapping(params = {"count=false", "!after"})
+  public Slice<OfficeOverViewDto> showOfficeSlice(OfficeSearchCond cond, Pageable pageable) {
 
-    for (OfficePicture element: officeImages){
-      imagePath.add(element.getFileName());
-    }
+    Slice<Office> offices = officeQueryService.searchOfficeSliceByDetailCondition(cond,
+        clampPageSize(pageable));
+    OfficePictures pictures = officePictureLoader.load(
+        offices.map(Office::getId).getContent());
 
-    while(imagePath.size() < 5){
-      imagePath.add("None");
-    }
-
-    List<Review> reviews = reviewService.getTopTwoReviews(officeId);
+    return offices.map(
+        content -> OfficeOverViewDto.fromEntity(content, pictures.get(content.getId())));
+  }
 
-    List<ReviewDto> reviewDtoList = reviews.stream()
-        .map(content -> ReviewDto.from(content, customerRepository.findById(content.getCustomerId())
-            .orElseThrow(() -> new CustomException(CustomErrorCode.USER_NOT_FOUND))))
-        .collect(Collectors.toList());
+  @Operation(summary = "오피스 검색(커서)", description = "after 커서를 이용하여 오피스를 특정 조건에 맞게 검색할 수 있다. 첫 페이지는 after를 빈 값으로 요청한다.")
+  @GetMapping(params = "after")
+  public CursorPageDto<OfficeOverViewDto> showOfficeListAfter(OfficeSearchCond cond,
+      @RequestParam(defaultValue = "") String after,
+      @RequestParam(defaultValue = "20") Integer size) {
+
+    Long lastOfficeId = CursorToken.decode(CursorToken.ID_SORT_KEY, after);
+    Slice<Office> offices = officeQueryService.searchOfficeByDetailConditionAfter(cond,
+        lastOfficeId, CursorPageDto.clampSize(size));
+    OfficePictures pictures = officePictureLoader.load(
+        offices.map(Office::getId).getContent());
+
+    return CursorPageDto.of(offices.map(
+        content -> OfficeOverViewDto.fromEntity(content, pictures.get(content.getId()))),
+        OfficeOverViewDto::getId);
+  }
 
-    return OfficeDetailResponseDto.from(officeInfo, reviewDtoList, imagePath);
+  @Operation(summary = "오피스 조회", description = "특정 오피스를 조회할 수 있다.")
+  @GetMapping("/{officeId}")
+  public OfficeDetailResponseDto showOfficeDetail(@PathVariable("officeId") Long officeId) {
+    return officeDetailService.getOfficeDetail(officeId);
   }
 
   @Operation(summary = "오피스 리뷰조회", description = "특정 오피스의 리뷰를 조회할 수 있다.")
@@ -94,13 +108,14 @@ public class OfficeController {
       @RequestParam(defaultValue = "0") Integer page,
       @RequestParam(defaultValue = "20") Integer size
   ) {
-    Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+    Pageable pageable = PageRequest.of(page, CursorPageDto.clampSize(size),
+        Sort.by(Sort.Direction.DESC, "id"));
 
     Page<Review> reviews = reviewService.getReviewsByOfficeId(officeId, pageable);
+    CustomerProfiles customers = customerProfileCache.load(
+        reviews.map(Review::getCustomerId).getContent());
 
-    return reviews.map(content -> ReviewDto.from(content,
-        customerRepository.findById(content.getCustomerId()).orElseThrow(() -> new CustomException(
-            CustomErrorCode.USER_NOT_FOUND))));
+    return reviews.map(content -> ReviewDto.from(content, customers.get(content.getCustomerId())));
   }
 
   @PreAuthorize("hasRole('CUSTOMER')")
@@ -122,4 +137,9 @@ public class OfficeController {
 
     return new ResponseDto<>("success", officeId);
   }
-}
\ No newline at end of file
+
+  private Pageable clampPageSize(Pageable pageable) {
+    return PageRequest.of(pageable.getPageNumber(),
+        CursorPageDto.clampSize(pageable.getPageSize()), pageable.getSort());
+  }
+}
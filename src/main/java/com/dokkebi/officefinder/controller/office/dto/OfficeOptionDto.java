@@ -4,8 +4,10 @@ import com.dokkebi.officefinder.entity.office.OfficeCondition;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class OfficeOptionDto {
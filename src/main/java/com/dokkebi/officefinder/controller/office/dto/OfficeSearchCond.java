@@ -1,5 +1,8 @@
 package com.dokkebi.officefinder.controller.office.dto;
 
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -29,4 +32,38 @@ public class OfficeSearchCond {
   Boolean haveStorage;
   Boolean haveHeater;
   Boolean haveParkArea;
+
+  // 값이 지정된 조건만 이름 순으로 나열한 문자열, 같은 검색 조건은 항상 같은 키를 가진다.
+  public String toNormalizedKey() {
+    Map<String, Object> values = new TreeMap<>();
+    values.put("legion", legion);
+    values.put("city", city);
+    values.put("town", town);
+    values.put("maxCapacity", maxCapacity);
+    values.put("haveAirCondition", haveAirCondition);
+    values.put("haveCafe", haveCafe);
+    values.put("havePrinter", havePrinter);
+    values.put("packageSendServiceAvailable", packageSendServiceAvailable);
+    values.put("haveDoorLock", haveDoorLock);
+    values.put("faxServiceAvailable", faxServiceAvailable);
+    values.put("havePublicKitchen", havePublicKitchen);
+    values.put("havePublicLounge", havePublicLounge);
+    values.put("havePrivateLocker", havePrivateLocker);
+    values.put("haveTvProjector", haveTvProjector);
+    values.put("haveWhiteBoard", haveWhiteBoard);
+    values.put("haveWifi", haveWifi);
+    values.put("haveShowerBooth", haveShowerBooth);
+    values.put("haveStorage", haveStorage);
+    values.put("haveHeater", haveHeater);
+    values.put("haveParkArea", haveParkArea);
+
+    StringJoiner joiner = new StringJoiner("&");
+    values.forEach((name, value) -> {
+      if (value != null) {
+        joiner.add(name + "=" + value);
+      }
+    });
+
+    return joiner.toString();
+  }
 }
@@ -18,6 +18,8 @@ import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
 import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
 import com.dokkebi.officefinder.security.TokenProvider;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader.OfficePictures;
 import com.dokkebi.officefinder.service.office.OfficeSearchService;
 import com.dokkebi.officefinder.service.office.OfficeService;
 import com.dokkebi.officefinder.service.officeowner.OfficeOwnerService;
@@ -59,6 +61,7 @@ public class OfficeOwnerController {
   private final OfficeService officeService;
   private final OfficeSearchService officeQueryService;
   private final OfficePictureRepository officePictureRepository;
+  private final OfficePictureLoader officePictureLoader;
   private final OfficeOwnerRepository officeOwnerRepository;
   private final S3Service s3Service;
   private final OfficeOwnerService officeOwnerService;
@@ -128,9 +131,10 @@ public class OfficeOwnerController {
   @GetMapping("/offices")
   public Page<OwnerOfficeOverViewDto> showOfficeList(Principal principal, Pageable pageable) {
     Page<Office> result = officeQueryService.getAllOffices(principal.getName(), pageable);
+    OfficePictures pictures = officePictureLoader.load(result.map(Office::getId).getContent());
 
     return result.map(content -> OwnerOfficeOverViewDto.fromEntity(content,
-        officePictureRepository.findByOfficeId(content.getId())));
+        pictures.get(content.getId())));
   }
 
   @Operation(summary = "소유 오피스 이름 조회", description = "모든 오피스의 이름을 조회할 수 있다.")
@@ -8,9 +8,10 @@ import com.dokkebi.officefinder.entity.office.Office;
 import com.dokkebi.officefinder.entity.review.Review;
 import com.dokkebi.officefinder.exception.CustomErrorCode;
 import com.dokkebi.officefinder.exception.CustomException;
-import com.dokkebi.officefinder.repository.CustomerRepository;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
 import com.dokkebi.officefinder.security.TokenProvider;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache.CustomerProfiles;
 import com.dokkebi.officefinder.service.review.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
@@ -43,7 +44,7 @@ public class ReviewController {
 
   private final ReviewService reviewService;
   private final TokenProvider tokenProvider;
-  private final CustomerRepository customerRepository;
+  private final CustomerProfileCache customerProfileCache;
   private final OfficeRepository officeRepository;
 
   @Operation(summary = "리뷰 등록", description = "회원은 만기된 임대에 대한 리뷰를 등록할 수 있다.")
@@ -69,9 +70,11 @@ public class ReviewController {
 
     Page<Review> reviews = reviewService.getReviewsByCustomerId(customerId, pageable);
 
-    return reviews.map(content -> ReviewDto.from(content,
-        customerRepository.findById(customerId).orElseThrow(() -> new CustomException(
-            CustomErrorCode.USER_NOT_FOUND))));
+    // 모두 같은 작성자이므로 리뷰가 있을 때만 한 번 조회된다.
+    CustomerProfiles customers = customerProfileCache.load(
+        reviews.map(Review::getCustomerId).getContent());
+
+    return reviews.map(content -> ReviewDto.from(content, customers.get(content.getCustomerId())));
   }
 
   @Operation(summary = "리뷰 수정", description = "자신이 등록한 리뷰를 수정할 수 있다.")
@@ -109,9 +112,11 @@ public class ReviewController {
     Office office = officeRepository.findByOfficeId(officeId)
         .orElseThrow(() -> new CustomException(CustomErrorCode.USER_NOT_FOUND));
 
+    CustomerProfiles customers = customerProfileCache.load(
+        reviews.stream().map(Review::getCustomerId).collect(Collectors.toList()));
+
     List<ReviewDto> result = reviews.stream()
-        .map(review -> ReviewDto.from(review, customerRepository.findById(review.getCustomerId())
-            .orElseThrow(() -> new CustomException(CustomErrorCode.USER_NOT_FOUND))))
+        .map(review -> ReviewDto.from(review, customers.get(review.getCustomerId())))
         .collect(Collectors.toList());
 
     return new ReviewResponseDto(String.valueOf(office.getReviewCount()), result);
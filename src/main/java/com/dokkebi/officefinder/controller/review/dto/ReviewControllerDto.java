@@ -2,6 +2,7 @@ package com.dokkebi.officefinder.controller.review.dto;
 
 import com.dokkebi.officefinder.entity.Customer;
 import com.dokkebi.officefinder.entity.review.Review;
+import com.dokkebi.officefinder.service.customer.dto.CustomerServiceDto.CustomerProfile;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,6 +45,7 @@ public class ReviewControllerDto {
   }
 
   @Getter
+  @NoArgsConstructor
   @AllArgsConstructor
   @Builder
   public static class ReviewDto {
@@ -63,6 +65,16 @@ public class ReviewControllerDto {
           .rate(review.getRate())
           .build();
     }
+
+    public static ReviewDto from(Review review, CustomerProfile customer) {
+      return ReviewDto.builder()
+          .customerName(customer.getName())
+          .customerImagePath(customer.getProfileImage())
+          .createdAt(review.getCreatedAt().toLocalDate())
+          .description(review.getDescription())
+          .rate(review.getRate())
+          .build();
+    }
   }
 
 
@@ -0,0 +1,42 @@
+package com.dokkebi.officefinder.dto;
+
+import com.dokkebi.officefinder.utils.CursorToken;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+  // 한 번에 조회할 수 있는 최대 개수
+  public static final int MAX_SIZE = 100;
+
+  private List<T> content;
+  private String next;
+  private boolean hasNext;
+
+  // 다음 페이지가 있다면 마지막 원소의 id로 다음 커서를 만든다.
+  public static <T> CursorPageDto<T> of(Slice<T> slice, Function<T, Long> idExtractor) {
+    List<T> content = slice.getContent();
+
+    String next = null;
+    if (slice.hasNext() && !content.isEmpty()) {
+      next = CursorToken.encode(CursorToken.ID_SORT_KEY,
+          idExtractor.apply(content.get(content.size() - 1)));
+    }
+
+    return new CursorPageDto<>(content, next, slice.hasNext());
+  }
+
+  // 요청한 조회 개수를 1 ~ MAX_SIZE 범위로 제한한다.
+  public static int clampSize(Integer size) {
+    if (size == null) {
+      return MAX_SIZE;
+    }
+
+    return Math.max(1, Math.min(size, MAX_SIZE));
+  }
+}
@@ -3,24 +3,32 @@ package com.dokkebi.officefinder.entity.chat;
 import com.dokkebi.officefinder.entity.BaseEntity;
 import com.dokkebi.officefinder.entity.Customer;
 import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.type.UserRole;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
+@Table(indexes = @Index(name = "idx_chat_room_uid", columnList = "room_uid"))
 public class ChatRoom extends BaseEntity {
 
   @Id
@@ -38,13 +46,27 @@ public class ChatRoom extends BaseEntity {
   @JoinColumn(name = "owner_id")
   private OfficeOwner officeOwner;
 
-  @Column(nullable = false)
+  @Column(name = "room_uid", nullable = false)
   private String roomUid;
 
   private LocalDateTime lastSeenCustomer;
 
   private LocalDateTime lastSeenOfficeOwner;
 
+  // 채팅방 목록 조회용 마지막 메세지 스냅샷 (메세지가 없으면 null)
+  @Column(name = "last_message_id")
+  private Long lastMessageId;
+
+  @Column(name = "last_message")
+  private String lastMessage;
+
+  @Column(name = "last_message_at")
+  private LocalDateTime lastMessageAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "last_message_sender")
+  private UserRole lastMessageSender;
+
   @Builder
   private ChatRoom(Long id, Long officeId, Customer customer, OfficeOwner officeOwner, String roomUid,
       LocalDateTime lastSeenCustomer, LocalDateTime lastSeenOfficeOwner) {
@@ -77,4 +99,18 @@ public class ChatRoom extends BaseEntity {
 
   }
 
+  public boolean hasMessage() {
+    return lastMessageId != null;
+  }
+
+  // 마지막으로 채팅방을 읽은 이후에 새로운 메세지가 도착했는지
+  public boolean hasNewMessage(String userType) {
+    if (!hasMessage()) {
+      return false;
+    }
+
+    LocalDateTime lastSeen = userType.equals("customer") ? lastSeenCustomer : lastSeenOfficeOwner;
+    return lastMessageAt.isAfter(lastSeen);
+  }
+
 }
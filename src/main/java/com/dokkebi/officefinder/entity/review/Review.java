@@ -3,6 +3,7 @@ package com.dokkebi.officefinder.entity.review;
 import com.dokkebi.officefinder.controller.review.dto.ReviewControllerDto.SubmitControllerRequest;
 import com.dokkebi.officefinder.entity.BaseEntity;
 import com.dokkebi.officefinder.entity.lease.Lease;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -27,6 +28,8 @@ public class Review extends BaseEntity {
   @Column(name = "review_id")
   private Long id;
 
+  // 캐시 직렬화 시 지연 로딩 프록시를 따라가지 않도록 제외
+  @JsonIgnore
   @OneToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "lease_id")
   private Lease lease;
@@ -35,6 +35,8 @@ public enum CustomErrorCode {
   LEASE_OWNER_NOT_MATCH(HttpStatus.BAD_REQUEST, "임대자 본인이 아닙니다."),
   REVIEW_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 리뷰가 있습니다."),
   LEASE_NOT_EXPIRED(HttpStatus.BAD_REQUEST, "계약이 만료되지 않았습니다."),
+  LEASE_NOT_AWAITING(HttpStatus.BAD_REQUEST, "수락 대기 중인 임대 요청이 아닙니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
   FILE_IS_NOT_PICTURE(HttpStatus.BAD_REQUEST, "잘못된 확장자입니다. jpg, jpeg, png 확장자의 파일을 보내주세요"),
   SSE_SEND_NOTIFICATION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "알림 전송을 실패하였습니다.");
 
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
@@ -15,4 +17,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
   Page<Review> findByOfficeId(Long officeId, Pageable pageable);
 
   List<Review> findTop2ByOfficeIdOrderByCreatedAtDesc(Long officeId);
+
+  @Query("select distinct r.officeId from Review r where r.customerId = :customerId")
+  List<Long> findOfficeIdsByCustomerId(@Param("customerId") Long customerId);
 }
\ No newline at end of file
@@ -4,10 +4,14 @@ import com.dokkebi.officefinder.entity.bookmark.Bookmark;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface BookmarkRepositoryCustom {
 
   Page<Bookmark> findByCustomerId(long customerId, Pageable pageable);
+
+  Slice<Bookmark> findByCustomerIdAfter(long customerId, Long lastBookmarkId, int size);
+
   void deleteAllByCustomerId(Long customerId);
 
   Optional<Bookmark> findByCustomerIdAndOfficeId(long officeId, long customerId);
@@ -7,13 +7,17 @@ import static com.dokkebi.officefinder.entity.office.QOffice.*;
 import com.dokkebi.officefinder.entity.QCustomer;
 import com.dokkebi.officefinder.entity.bookmark.Bookmark;
 import com.dokkebi.officefinder.entity.office.QOffice;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 
 public class BookmarkRepositoryImpl implements BookmarkRepositoryCustom{
@@ -47,6 +51,26 @@ public class BookmarkRepositoryImpl implements BookmarkRepositoryCustom{
     return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
   }
 
+  // 커서(마지막으로 조회한 북마크 id) 이후의 북마크를 id 내림차순(최신순)으로 조회한다.
+  @Override
+  public Slice<Bookmark> findByCustomerIdAfter(long customerId, Long lastBookmarkId, int size) {
+    List<Bookmark> result = queryFactory.selectFrom(bookmark)
+        .join(bookmark.customer, customer)
+        .join(bookmark.office, office).fetchJoin()
+        .where(
+            customer.id.eq(customerId),
+            bookmarkIdLessThan(lastBookmarkId)
+        )
+        .orderBy(bookmark.id.desc())
+        .limit(size + 1)
+        .fetch();
+
+    boolean hasNext = result.size() > size;
+
+    return new SliceImpl<>(hasNext ? result.subList(0, size) : result,
+        PageRequest.of(0, size), hasNext);
+  }
+
   @Override
   public void deleteAllByCustomerId(Long customerId) {
     long deleteCount = queryFactory.delete(bookmark)
@@ -69,4 +93,8 @@ public class BookmarkRepositoryImpl implements BookmarkRepositoryCustom{
 
     return Optional.ofNullable(result);
   }
+
+  private BooleanExpression bookmarkIdLessThan(Long lastBookmarkId) {
+    return lastBookmarkId != null ? bookmark.id.lt(lastBookmarkId) : null;
+  }
 }
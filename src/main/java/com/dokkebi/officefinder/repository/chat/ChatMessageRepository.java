@@ -4,19 +4,11 @@ import com.dokkebi.officefinder.entity.chat.ChatMessage;
 import com.dokkebi.officefinder.entity.chat.ChatRoom;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-
-  @Query(value = "SELECT * FROM chat_message as cm WHERE (cm.chat_room_id, cm.created_at) IN" +
-      "(SELECT c.chat_room_id, MAX(c.created_at) AS createdAt " +
-      "FROM chat_message c " +
-      "WHERE c.chat_room_id IN (:chatRoomIds)" +
-      "GROUP BY c.chat_room_id) " +
-      "ORDER BY cm.created_at DESC", nativeQuery = true)
-  List<ChatMessage> findTopByChatRoomInOrderByCreatedAtDesc(@Param("chatRoomIds")List<Long> chatRoomIds);
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>,
+    ChatMessageRepositoryCustom {
 
+  // 전체 대화 내역 조회 (페이징을 지원하지 않는 클라이언트를 위한 fallback)
   List<ChatMessage> findByChatRoom(ChatRoom chatRoom);
 
 }
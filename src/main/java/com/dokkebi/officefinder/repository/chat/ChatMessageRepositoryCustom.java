@@ -0,0 +1,12 @@
+package com.dokkebi.officefinder.repository.chat;
+
+import com.dokkebi.officefinder.entity.chat.ChatMessage;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public interface ChatMessageRepositoryCustom {
+
+  Slice<ChatMessage> findByChatRoomIdBefore(long chatRoomId, Long beforeMessageId, int size);
+
+  List<ChatMessage> findByChatRoomIdSince(long chatRoomId, long sinceMessageId, int size);
+}
@@ -0,0 +1,58 @@
+package com.dokkebi.officefinder.repository.chat;
+
+import static com.dokkebi.officefinder.entity.chat.QChatMessage.chatMessage;
+
+import com.dokkebi.officefinder.entity.chat.ChatMessage;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  public ChatMessageRepositoryImpl(EntityManager entityManager) {
+    queryFactory = new JPAQueryFactory(entityManager);
+  }
+
+  // 커서(가장 오래된 메세지 id) 이전의 메세지를 id 내림차순(최신순)으로 조회한다.
+  // 커서가 없으면 가장 최근 메세지부터 조회한다.
+  @Override
+  public Slice<ChatMessage> findByChatRoomIdBefore(long chatRoomId, Long beforeMessageId,
+      int size) {
+    List<ChatMessage> result = queryFactory.selectFrom(chatMessage)
+        .where(
+            chatMessage.chatRoom.id.eq(chatRoomId),
+            messageIdLessThan(beforeMessageId)
+        )
+        .orderBy(chatMessage.id.desc())
+        .limit(size + 1)
+        .fetch();
+
+    boolean hasNext = result.size() > size;
+
+    return new SliceImpl<>(hasNext ? result.subList(0, size) : result,
+        PageRequest.of(0, size), hasNext);
+  }
+
+  // 클라이언트가 마지막으로 받은 메세지 id 이후의 메세지를 id 오름차순으로 최대 size개 조회한다.
+  @Override
+  public List<ChatMessage> findByChatRoomIdSince(long chatRoomId, long sinceMessageId, int size) {
+    return queryFactory.selectFrom(chatMessage)
+        .where(
+            chatMessage.chatRoom.id.eq(chatRoomId),
+            chatMessage.id.gt(sinceMessageId)
+        )
+        .orderBy(chatMessage.id.asc())
+        .limit(size)
+        .fetch();
+  }
+
+  private BooleanExpression messageIdLessThan(Long beforeMessageId) {
+    return beforeMessageId != null ? chatMessage.id.lt(beforeMessageId) : null;
+  }
+}
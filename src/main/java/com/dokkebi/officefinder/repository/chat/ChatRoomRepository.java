@@ -4,17 +4,73 @@ package com.dokkebi.officefinder.repository.chat;
 import com.dokkebi.officefinder.entity.Customer;
 import com.dokkebi.officefinder.entity.OfficeOwner;
 import com.dokkebi.officefinder.entity.chat.ChatRoom;
+import com.dokkebi.officefinder.entity.type.UserRole;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>,
+    ChatRoomRepositoryCustom {
 
   List<ChatRoom> findByCustomer(Customer customer);
   List<ChatRoom> findByOfficeOwner(OfficeOwner officeOwner);
 
   Optional<ChatRoom> findByRoomUid(String roomUid);
 
+  // 메세지 일괄 저장 시 보낸 사람을 확인하기 위해 고객 정보를 함께 가져온다.
+  @Query("select cr from ChatRoom cr join fetch cr.customer where cr.roomUid in :roomUids")
+  List<ChatRoom> findWithCustomerByRoomUidIn(@Param("roomUids") Collection<String> roomUids);
+
   boolean existsByCustomerAndOfficeId(Customer customer, Long officeId);
 
+  // 채팅방 목록 조회 - 마지막 메세지는 채팅방에 저장된 스냅샷을 사용하므로 메세지 테이블을 읽지 않는다.
+  @Query("select cr from ChatRoom cr join fetch cr.customer join fetch cr.officeOwner "
+      + "where cr.customer.id = :customerId")
+  List<ChatRoom> findWithMembersByCustomerId(@Param("customerId") Long customerId);
+
+  @Query("select cr from ChatRoom cr join fetch cr.customer join fetch cr.officeOwner "
+      + "where cr.officeOwner.id = :officeOwnerId")
+  List<ChatRoom> findWithMembersByOfficeOwnerId(@Param("officeOwnerId") Long officeOwnerId);
+
+  @Query("select count(cr) > 0 from ChatRoom cr "
+      + "where cr.customer.id = :customerId and cr.lastMessageAt > cr.lastSeenCustomer")
+  boolean existsNewMessageByCustomerId(@Param("customerId") Long customerId);
+
+  @Query("select count(cr) > 0 from ChatRoom cr "
+      + "where cr.officeOwner.id = :officeOwnerId and cr.lastMessageAt > cr.lastSeenOfficeOwner")
+  boolean existsNewMessageByOfficeOwnerId(@Param("officeOwnerId") Long officeOwnerId);
+
+  // 동시에 전송된 메세지가 역순으로 커밋되어도 더 최신 메세지의 스냅샷을 덮어쓰지 않도록 id를 비교한다.
+  @Modifying
+  @Query("update ChatRoom cr set cr.lastMessageId = :messageId, cr.lastMessage = :message, "
+      + "cr.lastMessageAt = :sentAt, cr.lastMessageSender = :sender "
+      + "where cr.id = :chatRoomId and (cr.lastMessageId is null or cr.lastMessageId < :messageId)")
+  int updateLastMessage(@Param("chatRoomId") Long chatRoomId, @Param("messageId") Long messageId,
+      @Param("message") String message, @Param("sentAt") LocalDateTime sentAt,
+      @Param("sender") UserRole sender);
+
+  // 스냅샷 컬럼이 추가되기 전에 생성된 채팅방의 마지막 메세지를 채운다.
+  @Modifying
+  @Query(value = "UPDATE chat_room SET last_message_id = "
+      + "(SELECT MAX(m.message_id) FROM chat_message m "
+      + "WHERE m.chat_room_id = chat_room.chat_room_id) "
+      + "WHERE last_message_id IS NULL AND EXISTS (SELECT 1 FROM chat_message m "
+      + "WHERE m.chat_room_id = chat_room.chat_room_id)", nativeQuery = true)
+  int backfillLastMessageId();
+
+  @Modifying
+  @Query(value = "UPDATE chat_room SET "
+      + "last_message = (SELECT m.message FROM chat_message m "
+      + "WHERE m.message_id = chat_room.last_message_id), "
+      + "last_message_at = (SELECT m.created_at FROM chat_message m "
+      + "WHERE m.message_id = chat_room.last_message_id), "
+      + "last_message_sender = (SELECT CASE WHEN m.customer_id IS NULL THEN 'OFFICE_OWNER' "
+      + "ELSE 'CUSTOMER' END FROM chat_message m WHERE m.message_id = chat_room.last_message_id) "
+      + "WHERE last_message_id IS NOT NULL AND last_message_at IS NULL", nativeQuery = true)
+  int backfillLastMessageSnapshot();
 }
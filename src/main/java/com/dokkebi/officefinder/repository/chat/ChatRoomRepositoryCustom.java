@@ -0,0 +1,12 @@
+package com.dokkebi.officefinder.repository.chat;
+
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.service.chat.dto.ChatUnreadCount;
+import java.util.List;
+
+public interface ChatRoomRepositoryCustom {
+
+  List<Long> findMemberIdsAfter(UserRole role, Long lastMemberId, int size);
+
+  List<ChatUnreadCount> countUnreadByMemberIds(UserRole role, List<Long> memberIds);
+}
@@ -0,0 +1,67 @@
+package com.dokkebi.officefinder.repository.chat;
+
+import static com.dokkebi.officefinder.entity.chat.QChatMessage.chatMessage;
+import static com.dokkebi.officefinder.entity.chat.QChatRoom.chatRoom;
+
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.service.chat.dto.ChatUnreadCount;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  public ChatRoomRepositoryImpl(EntityManager entityManager) {
+    queryFactory = new JPAQueryFactory(entityManager);
+  }
+
+  // 채팅방이 있는 회원 id를 커서(마지막으로 조회한 회원 id) 이후부터 오름차순으로 조회한다.
+  @Override
+  public List<Long> findMemberIdsAfter(UserRole role, Long lastMemberId, int size) {
+    NumberPath<Long> memberId = memberId(role);
+
+    return queryFactory.select(memberId).distinct()
+        .from(chatRoom)
+        .where(lastMemberId != null ? memberId.gt(lastMemberId) : null)
+        .orderBy(memberId.asc())
+        .limit(size)
+        .fetch();
+  }
+
+  // 마지막으로 채팅방을 읽은 이후에 상대방이 보낸 메세지 수를 채팅방별로 센다.
+  // 읽지 않은 메세지가 없는 채팅방은 결과에 포함되지 않는다.
+  @Override
+  public List<ChatUnreadCount> countUnreadByMemberIds(UserRole role, List<Long> memberIds) {
+    NumberPath<Long> memberId = memberId(role);
+
+    BooleanExpression sentByOther = role == UserRole.CUSTOMER
+        ? chatMessage.officeOwnerId.isNotNull()
+        : chatMessage.customerId.isNotNull();
+    DateTimePath<LocalDateTime> lastSeen = role == UserRole.CUSTOMER
+        ? chatRoom.lastSeenCustomer
+        : chatRoom.lastSeenOfficeOwner;
+
+    return queryFactory.select(Projections.constructor(ChatUnreadCount.class,
+            memberId, chatRoom.id, chatMessage.count(), chatMessage.id.max()))
+        .from(chatMessage)
+        .join(chatMessage.chatRoom, chatRoom)
+        .where(
+            memberId.in(memberIds),
+            sentByOther,
+            chatMessage.createdAt.gt(lastSeen)
+        )
+        .groupBy(memberId, chatRoom.id)
+        .fetch();
+  }
+
+  private NumberPath<Long> memberId(UserRole role) {
+    return role == UserRole.CUSTOMER ? chatRoom.customer.id : chatRoom.officeOwner.id;
+  }
+}
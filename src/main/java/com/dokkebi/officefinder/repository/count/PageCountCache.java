@@ -0,0 +1,67 @@
+package com.dokkebi.officefinder.repository.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 페이징 조회의 전체 개수(count 쿼리 결과)를 짧은 시간 동안 보관하는 캐시입니다. 같은 조건으로 페이지를 넘길 때마다 동일한 join, 필터를 가진 count 쿼리가
+ * 반복되는 것을 막습니다.
+ * <p>
+ * 키는 "영역:조건" 형태이며, 데이터가 변경되면 영역 또는 조건 접두사 단위로 무효화합니다. 접두사는 다른 조건과 겹치지 않도록 구분자(:)로 끝나야
+ * 합니다. 트랜잭션 안에서의 무효화는 커밋 이전의 개수가 다시 캐싱되지 않도록 커밋 이후에 수행됩니다. 배치 작업처럼 서비스를 거치지 않는 변경은 TTL이
+ * 지나면 반영됩니다.
+ */
+@Component
+public class PageCountCache {
+
+  public static final String OFFICE = "office";
+  public static final String LEASE = "lease";
+
+  private static final String SEPARATOR = ":";
+
+  private final Cache<String, Long> counts;
+
+  public PageCountCache(
+      @Value("${cache.page-count.ttl-seconds:30}") long ttlSeconds,
+      @Value("${cache.page-count.max-size:10000}") long maxSize) {
+
+    this.counts = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  public long get(String region, String key, LongSupplier countQuery) {
+    return counts.get(region + SEPARATOR + key, k -> countQuery.getAsLong());
+  }
+
+  public void evictRegion(String region) {
+    evict(region, "");
+  }
+
+  public void evict(String region, String keyPrefix) {
+    String prefix = region + SEPARATOR + keyPrefix;
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictPrefix(prefix);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evictPrefix(prefix);
+      }
+    });
+  }
+
+  private void evictPrefix(String prefix) {
+    counts.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+}
@@ -7,11 +7,14 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface LeaseRepositoryCustom {
 
   Page<Lease> findByCustomerId(Long customerId, Pageable pageable);
 
+  Slice<Lease> findByCustomerIdAfter(Long customerId, Long lastLeaseId, int size);
+
   Page<Lease> findByOfficeIdAndLeaseStatus(Long officeId, LeaseStatus leaseStatus,
       Pageable pageable);
 
@@ -24,5 +27,9 @@ public interface LeaseRepositoryCustom {
   Long countOfficeRoomInUse(Long officeId, List<LeaseStatus> leaseStatus, LocalDate startDate,
       LocalDate endDate);
 
+  // fromDate 이후까지 이어지는 오피스의 임대 목록(점유 현황 계산용)
+  List<Lease> findOccupyingLeases(Long officeId, List<LeaseStatus> leaseStatus,
+      LocalDate fromDate);
+
   Optional<Lease> findByLeaseId(long leaseId);
 }
\ No newline at end of file
@@ -6,22 +6,31 @@ import static com.dokkebi.officefinder.entity.office.QOffice.office;
 
 import com.dokkebi.officefinder.entity.lease.Lease;
 import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import com.dokkebi.officefinder.repository.count.PageCountCache;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 
 public class LeaseRepositoryImpl implements LeaseRepositoryCustom{
 
   private final JPAQueryFactory queryFactory;
+  private final ObjectProvider<PageCountCache> pageCountCache;
 
-  public LeaseRepositoryImpl(EntityManager entityManager) {
+  public LeaseRepositoryImpl(EntityManager entityManager,
+      ObjectProvider<PageCountCache> pageCountCache) {
     queryFactory = new JPAQueryFactory(entityManager);
+    this.pageCountCache = pageCountCache;
   }
 
   @Override
@@ -44,7 +53,28 @@ public class LeaseRepositoryImpl implements LeaseRepositoryCustom{
             customer.id.eq(customerId)
         );
 
-    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    return PageableExecutionUtils.getPage(content, pageable,
+        () -> count("customer:" + customerId + ":", countQuery));
+  }
+
+  // 커서(마지막으로 조회한 임대 id) 이후의 임대 정보를 id 내림차순(최신순)으로 조회한다.
+  @Override
+  public Slice<Lease> findByCustomerIdAfter(Long customerId, Long lastLeaseId, int size) {
+    List<Lease> content = queryFactory.selectFrom(lease)
+        .join(lease.customer, customer).fetchJoin()
+        .join(lease.office, office).fetchJoin()
+        .where(
+            customer.id.eq(customerId),
+            leaseIdLessThan(lastLeaseId)
+        )
+        .orderBy(lease.id.desc())
+        .limit(size + 1)
+        .fetch();
+
+    boolean hasNext = content.size() > size;
+
+    return new SliceImpl<>(hasNext ? content.subList(0, size) : content,
+        PageRequest.of(0, size), hasNext);
   }
 
   @Override
@@ -71,7 +101,8 @@ public class LeaseRepositoryImpl implements LeaseRepositoryCustom{
             lease.leaseStatus.eq(leaseStatus)
         );
 
-    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    return PageableExecutionUtils.getPage(content, pageable,
+        () -> count("office:" + officeId + ":" + leaseStatus, countQuery));
   }
 
   @Override
@@ -111,6 +142,7 @@ public class LeaseRepositoryImpl implements LeaseRepositoryCustom{
         .from(lease)
         .join(lease.office, office)
         .where(
+            office.id.eq(officeId),
             lease.leaseStartDate.loe(endDate),
             lease.leaseEndDate.goe(startDate),
             lease.leaseStatus.in(leaseStatus)
@@ -118,6 +150,19 @@ public class LeaseRepositoryImpl implements LeaseRepositoryCustom{
         .fetchOne();
   }
 
+  @Override
+  public List<Lease> findOccupyingLeases(Long officeId, List<LeaseStatus> leaseStatus,
+      LocalDate fromDate) {
+
+    return queryFactory.selectFrom(lease)
+        .where(
+            lease.office.id.eq(officeId),
+            lease.leaseEndDate.goe(fromDate),
+            lease.leaseStatus.in(leaseStatus)
+        )
+        .fetch();
+  }
+
   @Override
   public Optional<Lease> findByLeaseId(long leaseId) {
     Lease result = queryFactory.selectFrom(lease)
@@ -131,4 +176,18 @@ public class LeaseRepositoryImpl implements LeaseRepositoryCustom{
     return Optional.ofNullable(result);
   }
 
+  // count 캐시가 등록되어 있다면(DataJpaTest 등에서는 없음) 캐시된 전체 개수를 사용한다.
+  private long count(String key, JPAQuery<Long> countQuery) {
+    PageCountCache cache = pageCountCache.getIfAvailable();
+
+    if (cache == null) {
+      return countQuery.fetchOne();
+    }
+
+    return cache.get(PageCountCache.LEASE, key, countQuery::fetchOne);
+  }
+
+  private BooleanExpression leaseIdLessThan(Long lastLeaseId) {
+    return lastLeaseId != null ? lease.id.lt(lastLeaseId) : null;
+  }
 }
\ No newline at end of file
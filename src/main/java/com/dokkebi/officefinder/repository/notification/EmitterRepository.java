@@ -1,57 +1,197 @@
 package com.dokkebi.officefinder.repository.notification;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/*
+ * emitterId는 "email_timestamp" 형태이며, email -> (emitterId -> 값) 2단계 맵으로 저장하여
+ * 회원 단위의 조회, 삭제를 전체 탐색 없이 처리한다.
+ *
+ * 재전송용 이벤트 캐시는 회원마다 "email_시퀀스" id의 시퀀스 순으로 정렬된 버퍼이며,
+ * 최대 개수를 넘거나 보관 기간이 지난 이벤트는 오래된 것부터 제거한다.
+ * 시퀀스는 이벤트 저장 시각(ms) 기반이므로 보관 기간 검사도 시퀀스 비교로 처리한다.
+ */
+@Slf4j
 @Repository
 public class EmitterRepository {
 
-  private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+  private static final String EMITTER_ID_DELIMITER = "_";
+  private static final int DEFAULT_MAX_EVENTS_PER_USER = 100;
+  private static final Duration DEFAULT_EVENT_TTL = Duration.ofMinutes(30);
 
-  private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+  private final Map<String, ConcurrentNavigableMap<Long, Object>> eventCache =
+      new ConcurrentHashMap<>();
+
+  private final int maxEventsPerUser;
+  private final long eventTtlMillis;
+
+  private final Counter sizeEvictionCounter;
+  private final Counter expiredEvictionCounter;
+  private final Counter replayCounter;
+
+  public EmitterRepository() {
+    this(DEFAULT_MAX_EVENTS_PER_USER, DEFAULT_EVENT_TTL, new SimpleMeterRegistry());
+  }
+
+  @Autowired
+  public EmitterRepository(
+      @Value("${sse.event-cache.max-size-per-user:100}") int maxEventsPerUser,
+      @Value("${sse.event-cache.ttl:30m}") Duration eventTtl,
+      MeterRegistry meterRegistry) {
+    this.maxEventsPerUser = maxEventsPerUser;
+    this.eventTtlMillis = eventTtl.toMillis();
+
+    meterRegistry.gauge("sse.event.cache.size", eventCache,
+        cache -> cache.values().stream().mapToInt(Map::size).sum());
+    this.sizeEvictionCounter = meterRegistry.counter("sse.event.cache.evictions", "reason", "size");
+    this.expiredEvictionCounter = meterRegistry.counter("sse.event.cache.evictions", "reason",
+        "expired");
+    this.replayCounter = meterRegistry.counter("sse.event.replays");
+  }
 
   public SseEmitter save(String emitterId, SseEmitter sseEmitter){
-    emitters.put(emitterId, sseEmitter);
+    emitters.compute(emailOf(emitterId), (email, userEmitters) -> {
+      Map<String, SseEmitter> values =
+          userEmitters != null ? userEmitters : new ConcurrentHashMap<>();
+      values.put(emitterId, sseEmitter);
+      return values;
+    });
+
     return sseEmitter;
   }
 
-  public void saveEventCache(String emitterId, Object event){
-    eventCache.put(emitterId, event);
+  // 새 이벤트를 저장하고 재전송 시 Last-Event-ID로 사용할 이벤트 id를 반환
+  public String saveEvent(String email, Object event) {
+    long[] sequence = new long[1];
+
+    eventCache.compute(email, (key, events) -> {
+      ConcurrentNavigableMap<Long, Object> values =
+          events != null ? events : new ConcurrentSkipListMap<>();
+
+      // 같은 ms에 저장된 이벤트가 있어도 id가 겹치지 않고 순서가 유지되도록 증가시킨다.
+      long now = System.currentTimeMillis();
+      sequence[0] = values.isEmpty() ? now : Math.max(now, values.lastKey() + 1);
+
+      values.put(sequence[0], event);
+      trim(values);
+      return values;
+    });
+
+    return email + EMITTER_ID_DELIMITER + sequence[0];
+  }
+
+  public void saveEventCache(String eventId, Object event){
+    eventCache.compute(emailOf(eventId), (email, events) -> {
+      ConcurrentNavigableMap<Long, Object> values =
+          events != null ? events : new ConcurrentSkipListMap<>();
+
+      values.put(sequenceOf(eventId), event);
+      trim(values);
+      return values;
+    });
   }
 
   public Map<String, SseEmitter> findAllEmitterStartsWithEmail(String email){
-    return emitters.entrySet().stream()
-        .filter(e -> e.getKey().startsWith(email))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return new HashMap<>(emitters.getOrDefault(email, Map.of()));
   }
 
   public Map<String, Object> findAllEventCacheStartsWithEmail(String email){
-    return eventCache.entrySet().stream()
-        .filter(e -> e.getKey().startsWith(email))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    return toEventIdMap(email, eventCache.getOrDefault(email, new ConcurrentSkipListMap<>()));
+  }
+
+  // lastEventId 이후에 저장된 이벤트를 저장 순서대로 반환
+  public Map<String, Object> findAllEventCacheAfter(String email, String lastEventId) {
+    ConcurrentNavigableMap<Long, Object> events = eventCache.get(email);
+
+    if (events == null) {
+      return Map.of();
+    }
+
+    Map<String, Object> result = toEventIdMap(email,
+        events.tailMap(sequenceOf(lastEventId), false));
+    replayCounter.increment(result.size());
+
+    return result;
   }
 
   public void deleteById(String emitterId){
-    emitters.remove(emitterId);
+    emitters.computeIfPresent(emailOf(emitterId), (email, userEmitters) -> {
+      userEmitters.remove(emitterId);
+      return userEmitters.isEmpty() ? null : userEmitters;
+    });
   }
 
   public void deleteAllEmitterStartWithEmail(String email){
-    Set<String> keysToDelete = emitters.keySet().stream()
-        .filter(key -> key.startsWith(email))
-        .collect(Collectors.toSet());
-
-    keysToDelete.forEach(emitters::remove);
+    emitters.remove(email);
   }
 
   public void deleteAllEventCacheStartWithEmail(String email){
-    Set<String> keysToDelete = eventCache.keySet().stream()
-        .filter(key -> key.startsWith(email))
-        .collect(Collectors.toSet());
+    eventCache.remove(email);
+  }
+
+  // 더 이상 이벤트가 저장되지 않는 회원의 버퍼도 보관 기간이 지나면 비워지도록 주기적으로 정리
+  @Scheduled(fixedDelayString = "${sse.event-cache.cleanup-interval-ms:60000}")
+  public void evictExpiredEvents() {
+    eventCache.keySet().forEach(email ->
+        eventCache.computeIfPresent(email, (key, events) -> {
+          trim(events);
+          return events.isEmpty() ? null : events;
+        }));
+  }
+
+  private void trim(ConcurrentNavigableMap<Long, Object> events) {
+    Map<Long, Object> expired = events.headMap(System.currentTimeMillis() - eventTtlMillis);
+    int expiredCount = expired.size();
+
+    if (expiredCount > 0) {
+      expired.clear();
+      expiredEvictionCounter.increment(expiredCount);
+    }
+
+    while (events.size() > maxEventsPerUser) {
+      events.pollFirstEntry();
+      sizeEvictionCounter.increment();
+    }
+  }
+
+  private Map<String, Object> toEventIdMap(String email, Map<Long, Object> events) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    events.forEach((sequence, event) ->
+        result.put(email + EMITTER_ID_DELIMITER + sequence, event));
+
+    return result;
+  }
+
+  private String emailOf(String emitterId) {
+    int delimiterIndex = emitterId.lastIndexOf(EMITTER_ID_DELIMITER);
+    return delimiterIndex < 0 ? emitterId : emitterId.substring(0, delimiterIndex);
+  }
+
+  // 형식이 잘못된 id는 처음부터 재전송하도록 0으로 처리
+  private long sequenceOf(String eventId) {
+    int delimiterIndex = eventId.lastIndexOf(EMITTER_ID_DELIMITER);
 
-    keysToDelete.forEach(eventCache::remove);
+    try {
+      return Long.parseLong(eventId.substring(delimiterIndex + 1));
+    } catch (NumberFormatException e) {
+      log.warn("invalid sse event id : {}", eventId);
+      return 0L;
+    }
   }
 }
@@ -2,14 +2,25 @@ package com.dokkebi.officefinder.repository.office;
 
 import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
 import com.dokkebi.officefinder.entity.office.Office;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface OfficeRepositoryCustom {
 
   Page<Office> findBySearchCond(OfficeSearchCond cond, Pageable pageable);
 
+  Page<Office> findBySearchCondInIds(OfficeSearchCond cond, List<Long> officeIds,
+      Pageable pageable);
+
+  Slice<Office> findBySearchCondAfter(OfficeSearchCond cond, List<Long> officeIds,
+      Long lastOfficeId, int size);
+
+  Slice<Office> findSliceBySearchCond(OfficeSearchCond cond, List<Long> officeIds,
+      Pageable pageable);
+
   Page<Office> findByOwnerEmail(String ownerEmail, Pageable pageable);
 
   Optional<Office> findByOfficeId(Long id);
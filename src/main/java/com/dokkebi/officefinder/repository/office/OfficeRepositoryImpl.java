@@ -9,22 +9,32 @@ import static com.dokkebi.officefinder.entity.office.QOfficeLocation.officeLocat
 import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
 import com.dokkebi.officefinder.entity.office.Office;
 import com.dokkebi.officefinder.entity.office.QOffice;
+import com.dokkebi.officefinder.repository.count.PageCountCache;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 
 public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
 
   private final JPAQueryFactory queryFactory;
+  private final ObjectProvider<PageCountCache> pageCountCache;
 
-  public OfficeRepositoryImpl(EntityManager entityManager) {
+  public OfficeRepositoryImpl(EntityManager entityManager,
+      ObjectProvider<PageCountCache> pageCountCache) {
     queryFactory = new JPAQueryFactory(entityManager);
+    this.pageCountCache = pageCountCache;
   }
 
   @Override
@@ -38,6 +48,7 @@ public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
             townEquals(cond.getTown()),
             maxCapacityLessThan(cond.getMaxCapacity()),
             haveAirCondition(cond.getHaveAirCondition()),
+            haveHeater(cond.getHaveHeater()),
             haveCafe(cond.getHaveCafe()),
             havePrinter(cond.getHavePrinter()),
             packageServiceAvailable(cond.getPackageSendServiceAvailable()),
@@ -67,6 +78,7 @@ public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
             townEquals(cond.getTown()),
             maxCapacityLessThan(cond.getMaxCapacity()),
             haveAirCondition(cond.getHaveAirCondition()),
+            haveHeater(cond.getHaveHeater()),
             haveCafe(cond.getHaveCafe()),
             havePrinter(cond.getHavePrinter()),
             packageServiceAvailable(cond.getPackageSendServiceAvailable()),
@@ -83,7 +95,94 @@ public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
             haveParkArea(cond.getHaveParkArea())
         );
 
-    return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
+    return PageableExecutionUtils.getPage(result, pageable,
+        () -> count("search:" + cond.toNormalizedKey(), countQuery));
+  }
+
+  // 보유 시설 조건은 OfficeAmenityIndex에서 계산된 오피스 id 목록으로 대체한다.
+  @Override
+  public Page<Office> findBySearchCondInIds(OfficeSearchCond cond, List<Long> officeIds,
+      Pageable pageable) {
+    List<Office> result = queryFactory.selectFrom(office)
+        .join(office.officeCondition).fetchJoin()
+        .join(office.officeLocation).fetchJoin()
+        .where(
+            office.id.in(officeIds),
+            legionEquals(cond.getLegion()),
+            cityEquals(cond.getCity()),
+            townEquals(cond.getTown()),
+            maxCapacityLessThan(cond.getMaxCapacity())
+        )
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    JPAQuery<Long> countQuery = queryFactory.select(office.count())
+        .from(office)
+        .join(office.officeLocation)
+        .where(
+            office.id.in(officeIds),
+            legionEquals(cond.getLegion()),
+            cityEquals(cond.getCity()),
+            townEquals(cond.getTown()),
+            maxCapacityLessThan(cond.getMaxCapacity())
+        );
+
+    return PageableExecutionUtils.getPage(result, pageable,
+        () -> count("search-index:" + cond.toNormalizedKey(), countQuery));
+  }
+
+  // 커서(마지막으로 조회한 오피스 id) 이후의 오피스를 id 내림차순으로 size + 1개 조회하여 다음 페이지 여부를 판단한다.
+  // officeIds가 null이면 보유 시설 조건을 SQL로 검사하고, 아니라면 인덱스로 계산된 id 목록을 사용한다.
+  @Override
+  public Slice<Office> findBySearchCondAfter(OfficeSearchCond cond, List<Long> officeIds,
+      Long lastOfficeId, int size) {
+    Predicate amenityCondition =
+        officeIds != null ? office.id.in(officeIds) : amenityConditions(cond);
+
+    List<Office> result = queryFactory.selectFrom(office)
+        .join(office.officeCondition).fetchJoin()
+        .join(office.officeLocation).fetchJoin()
+        .where(
+            officeIdLessThan(lastOfficeId),
+            amenityCondition,
+            legionEquals(cond.getLegion()),
+            cityEquals(cond.getCity()),
+            townEquals(cond.getTown()),
+            maxCapacityLessThan(cond.getMaxCapacity())
+        )
+        .orderBy(office.id.desc())
+        .limit(size + 1)
+        .fetch();
+
+    return toSlice(result, size);
+  }
+
+  // count 쿼리 없이 size + 1개를 조회하여 다음 페이지 여부만 판단한다. (무한 스크롤용)
+  @Override
+  public Slice<Office> findSliceBySearchCond(OfficeSearchCond cond, List<Long> officeIds,
+      Pageable pageable) {
+    Predicate amenityCondition =
+        officeIds != null ? office.id.in(officeIds) : amenityConditions(cond);
+
+    List<Office> result = queryFactory.selectFrom(office)
+        .join(office.officeCondition).fetchJoin()
+        .join(office.officeLocation).fetchJoin()
+        .where(
+            amenityCondition,
+            legionEquals(cond.getLegion()),
+            cityEquals(cond.getCity()),
+            townEquals(cond.getTown()),
+            maxCapacityLessThan(cond.getMaxCapacity())
+        )
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize() + 1)
+        .fetch();
+
+    boolean hasNext = result.size() > pageable.getPageSize();
+
+    return new SliceImpl<>(hasNext ? result.subList(0, pageable.getPageSize()) : result,
+        pageable, hasNext);
   }
 
   @Override
@@ -108,7 +207,8 @@ public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
             office.owner.email.eq(ownerEmail)
         );
 
-    return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
+    return PageableExecutionUtils.getPage(result, pageable,
+        () -> count("owner:" + ownerEmail, countQuery));
   }
 
   @Override
@@ -122,6 +222,48 @@ public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
     return Optional.ofNullable(result);
   }
 
+  // count 캐시가 등록되어 있다면(DataJpaTest 등에서는 없음) 캐시된 전체 개수를 사용한다.
+  private long count(String key, JPAQuery<Long> countQuery) {
+    PageCountCache cache = pageCountCache.getIfAvailable();
+
+    if (cache == null) {
+      return countQuery.fetchOne();
+    }
+
+    return cache.get(PageCountCache.OFFICE, key, countQuery::fetchOne);
+  }
+
+  private Slice<Office> toSlice(List<Office> result, int size) {
+    boolean hasNext = result.size() > size;
+    List<Office> content = hasNext ? result.subList(0, size) : result;
+
+    return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+  }
+
+  private BooleanBuilder amenityConditions(OfficeSearchCond cond) {
+    return new BooleanBuilder()
+        .and(haveAirCondition(cond.getHaveAirCondition()))
+        .and(haveHeater(cond.getHaveHeater()))
+        .and(haveCafe(cond.getHaveCafe()))
+        .and(havePrinter(cond.getHavePrinter()))
+        .and(packageServiceAvailable(cond.getPackageSendServiceAvailable()))
+        .and(haveDoorLock(cond.getHaveDoorLock()))
+        .and(faxServiceAvailable(cond.getFaxServiceAvailable()))
+        .and(havePublicKitchen(cond.getHavePublicKitchen()))
+        .and(havePublicLounge(cond.getHavePublicLounge()))
+        .and(havePrivateLocker(cond.getHavePrivateLocker()))
+        .and(haveTvProjector(cond.getHaveTvProjector()))
+        .and(haveWhiteBoard(cond.getHaveWhiteBoard()))
+        .and(haveWifiService(cond.getHaveWifi()))
+        .and(haveShowerBooth(cond.getHaveShowerBooth()))
+        .and(haveStorage(cond.getHaveStorage()))
+        .and(haveParkArea(cond.getHaveParkArea()));
+  }
+
+  private BooleanExpression officeIdLessThan(Long lastOfficeId) {
+    return lastOfficeId != null ? office.id.lt(lastOfficeId) : null;
+  }
+
   private BooleanExpression haveParkArea(Boolean haveParkArea) {
     return haveParkArea != null ? office.officeCondition.parkArea.eq(haveParkArea) : null;
   }
@@ -195,7 +337,11 @@ public class OfficeRepositoryImpl implements OfficeRepositoryCustom {
   }
 
   private BooleanExpression haveDoorLock(Boolean haveDoorLock) {
-    return haveDoorLock != null ? office.officeCondition.airCondition.eq(haveDoorLock) : null;
+    return haveDoorLock != null ? office.officeCondition.doorLock.eq(haveDoorLock) : null;
+  }
+
+  private BooleanExpression haveHeater(Boolean haveHeater) {
+    return haveHeater != null ? office.officeCondition.heaterCondition.eq(haveHeater) : null;
   }
 
   private BooleanExpression haveAirCondition(Boolean haveAirCondition) {
@@ -1,8 +1,17 @@
 package com.dokkebi.officefinder.repository.office.condition;
 
 import com.dokkebi.officefinder.entity.office.OfficeCondition;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OfficeConditionRepository extends JpaRepository<OfficeCondition, Long> {
 
+  @Query("select oc from OfficeCondition oc join fetch oc.office")
+  List<OfficeCondition> findAllWithOffice();
+
+  @Query("select oc from OfficeCondition oc where oc.office.id = :officeId")
+  Optional<OfficeCondition> findByOfficeId(@Param("officeId") Long officeId);
 }
@@ -1,6 +1,7 @@
 package com.dokkebi.officefinder.repository.office.picture;
 
 import com.dokkebi.officefinder.entity.office.OfficePicture;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,4 +11,7 @@ public interface OfficePictureRepository extends JpaRepository<OfficePicture, Lo
 
   @Query("select op from OfficePicture op where op.office.id=:officeId")
   List<OfficePicture> findByOfficeId(@Param("officeId") Long officeId);
+
+  @Query("select op from OfficePicture op where op.office.id in :officeIds")
+  List<OfficePicture> findByOfficeIdIn(@Param("officeIds") Collection<Long> officeIds);
 }
@@ -12,10 +12,12 @@ import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.CustomerRepository;
 import com.dokkebi.officefinder.repository.bookmark.BookmarkRepository;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
-import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader.OfficePictures;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +29,7 @@ public class BookmarkService {
   private final BookmarkRepository bookmarkRepository;
   private final CustomerRepository customerRepository;
   private final OfficeRepository officeRepository;
-  private final OfficePictureRepository officePictureRepository;
+  private final OfficePictureLoader officePictureLoader;
 
   public Bookmark submitBookmark(Long customerId, Long officeId) {
     Customer customer = customerRepository.findById(customerId)
@@ -44,9 +46,22 @@ public class BookmarkService {
   @Transactional(readOnly = true)
   public Page<BookmarkDto> getBookmarks(Long customerId, Pageable pageable) {
     Page<Bookmark> bookmarks = bookmarkRepository.findByCustomerId(customerId, pageable);
+    OfficePictures pictures = officePictureLoader.load(
+        bookmarks.map(content -> content.getOffice().getId()).getContent());
 
     return bookmarks.map(content -> BookmarkDto.from(content,
-        officePictureRepository.findByOfficeId(content.getOffice().getId())));
+        pictures.get(content.getOffice().getId())));
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<BookmarkDto> getBookmarksAfter(Long customerId, Long lastBookmarkId, int size) {
+    Slice<Bookmark> bookmarks = bookmarkRepository.findByCustomerIdAfter(customerId,
+        lastBookmarkId, size);
+    OfficePictures pictures = officePictureLoader.load(
+        bookmarks.map(content -> content.getOffice().getId()).getContent());
+
+    return bookmarks.map(content -> BookmarkDto.from(content,
+        pictures.get(content.getOffice().getId())));
   }
 
   public void deleteBookmark(Long customerId, Long officeId) {
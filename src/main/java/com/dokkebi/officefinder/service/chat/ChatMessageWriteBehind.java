@@ -0,0 +1,560 @@
+package com.dokkebi.officefinder.service.chat;
+
+import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.SendMessage;
+import com.dokkebi.officefinder.entity.chat.ChatRoom;
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * STOMP로 받은 채팅 메세지를 모아서 저장하는 write-behind 저장소입니다.
+ * <p>
+ * 메세지는 받은 시각과 함께 크기가 제한된 큐에 쌓이고, 전용 스레드가 batch-size개가 모이거나 flush-interval이 지나면 하나의 트랜잭션에서 JDBC
+ * batch insert로 저장합니다. 같은 트랜잭션에서 저장된 메세지 id로 채팅방의 마지막 메세지 스냅샷을 갱신하고, 커밋 이후 읽지 않은 메세지 수를
+ * 증가시킵니다.
+ * <p>
+ * 받은 순서대로 저장되도록 모든 메세지는 큐를 거쳐 한 곳에서만 저장합니다. 실행 중에는 저장 스레드만, 저장 스레드가 종료된 이후에는 flush를
+ * 호출한 스레드가 잠금을 잡고 저장합니다. 큐가 가득 차면 메세지를 보낸 스레드는 자리가 날 때까지 기다립니다(backpressure). 종료 시에는 큐에
+ * 남은 메세지를 모두 저장한 뒤 종료합니다. DB 장애와 같은 일시적인 오류로 저장하지 못한 배치는 버리지 않고 retry-backoff부터
+ * retry-max-backoff까지 간격을 늘려 가며 다시 저장하며, 그동안 뒤에 받은 메세지는 큐에서 기다립니다. 메세지 자체의 문제(없는 채팅방, 제약 조건
+ * 위반 등)로 저장할 수 없는 메세지와, 커밋 중에 실패하여 실제로 저장되었는지 알 수 없는 배치는 중복 저장을 막기 위해 다시 저장하지 않습니다.
+ * chat.persist.write-behind가 false이면 기존과 같이 ChatService.send로 바로 저장합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind {
+
+  private static final String INSERT_MESSAGE_SQL = "INSERT INTO chat_message "
+      + "(chat_room_id, customer_id, office_owner_id, message, created_at, last_modified_at) "
+      + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ChatRoomRepository chatRoomRepository;
+  private final ChatUnreadCounter chatUnreadCounter;
+  private final ChatService chatService;
+
+  private final boolean enabled;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final long retryBackoffNanos;
+  private final long retryMaxBackoffNanos;
+  private final BlockingQueue<PendingMessage> queue;
+  private final Cache<String, RoomMember> roomMembers;
+
+  private final Thread worker;
+  private final ReentrantLock persistLock = new ReentrantLock();
+  // 큐에 들어간 뒤 아직 저장이 끝나지 않은 메세지 수 (저장 스레드가 모으는 중인 메세지 포함)
+  private final AtomicInteger unsaved = new AtomicInteger();
+  private volatile boolean running = true;
+  // 종료 중에는 이 시각까지만 저장을 다시 시도한다.
+  private volatile long shutdownDeadline = Long.MAX_VALUE;
+
+  private final Counter receivedCounter;
+  private final Counter persistedCounter;
+  private final Counter failedCounter;
+  private final Counter retriedCounter;
+  private final Counter overflowCounter;
+  private final DistributionSummary batchSizeSummary;
+  private final Timer persistLagTimer;
+
+  public ChatMessageWriteBehind(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ChatRoomRepository chatRoomRepository,
+      ChatUnreadCounter chatUnreadCounter,
+      ChatService chatService,
+      MeterRegistry meterRegistry,
+      @Value("${chat.persist.write-behind:true}") boolean enabled,
+      @Value("${chat.persist.queue-capacity:10000}") int queueCapacity,
+      @Value("${chat.persist.batch-size:200}") int batchSize,
+      @Value("${chat.persist.flush-interval:20ms}") Duration flushInterval,
+      @Value("${chat.persist.retry-backoff:100ms}") Duration retryBackoff,
+      @Value("${chat.persist.retry-max-backoff:5s}") Duration retryMaxBackoff) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chatRoomRepository = chatRoomRepository;
+    this.chatUnreadCounter = chatUnreadCounter;
+    this.chatService = chatService;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.retryBackoffNanos = retryBackoff.toNanos();
+    this.retryMaxBackoffNanos = retryMaxBackoff.toNanos();
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+    // 채팅방의 고객, 오피스 임대인은 바뀌지 않으므로 보낸 사람 확인에 필요한 정보를 짧게 캐싱한다.
+    this.roomMembers = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .build();
+
+    meterRegistry.gaugeCollectionSize("chat.message.queue.size", Tags.empty(), queue);
+    this.receivedCounter = meterRegistry.counter("chat.message.received");
+    this.persistedCounter = meterRegistry.counter("chat.message.persisted");
+    this.failedCounter = meterRegistry.counter("chat.message.failed");
+    this.retriedCounter = meterRegistry.counter("chat.message.retried");
+    this.overflowCounter = meterRegistry.counter("chat.message.overflow");
+    this.batchSizeSummary = meterRegistry.summary("chat.message.batch.size");
+    this.persistLagTimer = meterRegistry.timer("chat.message.persist.lag");
+
+    this.worker = new Thread(this::run, "chat-message-write-behind");
+    worker.setDaemon(true);
+  }
+
+  public void write(SendMessage message) {
+    receivedCounter.increment();
+
+    if (!enabled) {
+      chatService.send(message);
+      return;
+    }
+
+    PendingMessage pending = new PendingMessage(message, LocalDateTime.now(), System.nanoTime());
+
+    unsaved.incrementAndGet();
+    if (!queue.offer(pending)) {
+      overflowCounter.increment();
+      if (!enqueue(pending)) {
+        return;
+      }
+    }
+
+    // 종료 중이라면 저장 스레드가 더 이상 꺼내지 않으므로 직접 저장한다.
+    if (!running) {
+      flush();
+    }
+  }
+
+  /**
+   * 큐에 남은 메세지를 모두 저장합니다. 저장 스레드가 실행 중이면 저장 스레드가 모두 저장할 때까지 기다리고, 종료 중이면 저장 스레드가 끝난 뒤
+   * 남은 메세지를 받은 순서대로 저장합니다.
+   */
+  public void flush() {
+    if (worker.isAlive() && running) {
+      awaitSaved();
+      return;
+    }
+
+    try {
+      worker.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    // 큐에서 꺼내는 것과 저장을 같은 잠금 안에서 하여 여러 스레드가 flush해도 순서가 바뀌지 않게 한다.
+    persistLock.lock();
+    try {
+      List<PendingMessage> batch = new ArrayList<>(batchSize);
+      while (queue.drainTo(batch, batchSize) > 0) {
+        persistQueued(batch);
+        batch.clear();
+      }
+    } finally {
+      persistLock.unlock();
+    }
+
+    awaitSaved();
+  }
+
+  private void awaitSaved() {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (unsaved.get() > 0 && System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  @PostConstruct
+  public void start() {
+    if (enabled) {
+      worker.start();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    shutdownDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    running = false;
+    worker.join(TimeUnit.SECONDS.toMillis(10));
+    flush();
+  }
+
+  private void run() {
+    List<PendingMessage> batch = new ArrayList<>(batchSize);
+
+    while (running) {
+      try {
+        // 종료 여부를 확인할 수 있도록 대기 시간을 제한한다.
+        PendingMessage first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        // 첫 메세지를 받은 뒤 flush-interval 동안 batch-size개까지 모은다.
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+          queue.drainTo(batch, batchSize - batch.size());
+          long remaining = deadline - System.nanoTime();
+          if (batch.size() >= batchSize || remaining <= 0) {
+            break;
+          }
+
+          PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+
+      // 다시 시도하는 동안에도 잠금을 유지하여 종료 중인 flush가 뒤에 받은 메세지를 먼저 저장하지 않게 한다.
+      if (!batch.isEmpty()) {
+        persistLock.lock();
+        try {
+          persistQueued(batch);
+        } finally {
+          persistLock.unlock();
+        }
+        batch.clear();
+      }
+    }
+  }
+
+  // 일시적인 오류로 저장하지 못한 메세지는 간격을 늘려 가며 다시 저장한다. 종료 중에는 shutdownDeadline까지만 시도한다.
+  private void persistQueued(List<PendingMessage> messages) {
+    int count = messages.size();
+    long backoff = retryBackoffNanos;
+
+    try {
+      while (true) {
+        try {
+          persist(messages);
+          return;
+        } catch (RuntimeException e) {
+          if (!running && System.nanoTime() + backoff > shutdownDeadline) {
+            discard(messages, e);
+            return;
+          }
+
+          retriedCounter.increment();
+          log.warn("chat message save failed, retrying in {} ms. count : {}",
+              TimeUnit.NANOSECONDS.toMillis(backoff), messages.size(), e);
+        }
+
+        try {
+          TimeUnit.NANOSECONDS.sleep(backoff);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          running = false;
+          shutdownDeadline = System.nanoTime();
+        }
+        backoff = Math.min(backoff * 2, retryMaxBackoffNanos);
+      }
+    } finally {
+      unsaved.addAndGet(-count);
+    }
+  }
+
+  // 큐가 가득 찬 경우 앞선 메세지를 앞질러 저장하지 않도록 큐에 자리가 날 때까지 기다린다.
+  private boolean enqueue(PendingMessage pending) {
+    try {
+      queue.put(pending);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    unsaved.decrementAndGet();
+    failedCounter.increment();
+    log.error("chat message discarded, interrupted while waiting for queue. roomUid : {}",
+        pending.getRoomUid());
+    return false;
+  }
+
+  // 저장했거나 버린 메세지는 목록에서 제거한다. 일시적인 오류는 그대로 던져 남은 메세지를 다시 저장할 수 있게 한다.
+  private void persist(List<PendingMessage> messages) {
+    persistLock.lock();
+    try {
+      try {
+        persistBatch(messages);
+        messages.clear();
+        return;
+      } catch (RuntimeException e) {
+        if (isTransient(e)) {
+          throw e;
+        }
+        log.warn("chat message batch rejected, saving one by one. count : {}", messages.size(),
+            e);
+      }
+
+      // 메세지 자체의 문제로 실패한 경우 하나씩 저장하여 저장할 수 없는 메세지만 버린다.
+      Iterator<PendingMessage> iterator = messages.iterator();
+      while (iterator.hasNext()) {
+        PendingMessage message = iterator.next();
+        try {
+          persistBatch(List.of(message));
+        } catch (RuntimeException e) {
+          if (isTransient(e)) {
+            throw e;
+          }
+          failedCounter.increment();
+          log.error("chat message save failed. roomUid : {}", message.getRoomUid(), e);
+        }
+        iterator.remove();
+      }
+    } finally {
+      persistLock.unlock();
+    }
+  }
+
+  // 제약 조건 위반을 제외한 DB 오류와 트랜잭션을 시작하지 못한 경우는 다시 시도하면 저장될 수 있다.
+  private boolean isTransient(RuntimeException e) {
+    return (e instanceof DataAccessException || e instanceof CannotCreateTransactionException)
+        && !(e instanceof DataIntegrityViolationException);
+  }
+
+  private void discard(List<PendingMessage> messages, RuntimeException e) {
+    failedCounter.increment(messages.size());
+    log.error("chat messages discarded on shutdown. count : {}", messages.size(), e);
+  }
+
+  private void persistBatch(List<PendingMessage> messages) {
+    AtomicBoolean committing = new AtomicBoolean();
+    Integer savedCount;
+
+    try {
+      savedCount = transactionTemplate.execute(status -> {
+        Integer count = insertInTransaction(messages);
+        committing.set(true);
+        return count;
+      });
+    } catch (RuntimeException e) {
+      if (!committing.get()) {
+        throw e;
+      }
+
+      // 커밋 중의 실패는 실제로 커밋되었을 수 있으므로 다시 저장하지 않는다.
+      failedCounter.increment(messages.size());
+      log.error("chat message commit failed, not retrying. count : {}", messages.size(), e);
+      return;
+    }
+
+    // 받은 시각부터 커밋까지 걸린 시간
+    long now = System.nanoTime();
+    for (PendingMessage message : messages) {
+      persistLagTimer.record(now - message.getReceivedNanos(), TimeUnit.NANOSECONDS);
+    }
+    persistedCounter.increment(savedCount == null ? 0 : savedCount);
+    batchSizeSummary.record(messages.size());
+  }
+
+  private Integer insertInTransaction(List<PendingMessage> messages) {
+    Map<String, RoomMember> members = findRoomMembers(messages);
+
+    List<PendingMessage> saved = messages.stream()
+        .filter(message -> {
+          if (members.containsKey(message.getRoomUid())) {
+            return true;
+          }
+          failedCounter.increment();
+          log.warn("chat room not found. roomUid : {}", message.getRoomUid());
+          return false;
+        })
+        .collect(Collectors.toList());
+
+    if (saved.isEmpty()) {
+      return 0;
+    }
+
+    List<Long> messageIds = insertMessages(saved, members);
+    updateLastMessages(saved, messageIds, members);
+    incrementUnread(saved, messageIds, members);
+    return saved.size();
+  }
+
+  // JPA auditing을 거치지 않으므로 받은 시각을 생성 시간으로 직접 지정하고, 저장된 순서대로 메세지 id를 반환한다.
+  private List<Long> insertMessages(List<PendingMessage> messages,
+      Map<String, RoomMember> members) {
+    return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+      try (PreparedStatement ps = connection.prepareStatement(INSERT_MESSAGE_SQL,
+          Statement.RETURN_GENERATED_KEYS)) {
+        for (PendingMessage message : messages) {
+          RoomMember member = members.get(message.getRoomUid());
+          Timestamp receivedAt = Timestamp.valueOf(message.getReceivedAt());
+
+          ps.setLong(1, member.getChatRoomId());
+          if (member.isCustomer(message)) {
+            ps.setLong(2, member.getCustomerId());
+            ps.setNull(3, Types.BIGINT);
+          } else {
+            ps.setNull(2, Types.BIGINT);
+            ps.setLong(3, member.getOfficeOwnerId());
+          }
+          ps.setString(4, message.getMessage().getMessage());
+          ps.setTimestamp(5, receivedAt);
+          ps.setTimestamp(6, receivedAt);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+
+        List<Long> messageIds = new ArrayList<>(messages.size());
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+          while (keys.next()) {
+            messageIds.add(keys.getLong(1));
+          }
+        }
+        return messageIds;
+      }
+    });
+  }
+
+  // 채팅방마다 배치 안에서 가장 마지막에 저장된 메세지로 스냅샷을 갱신한다.
+  // ChatService.send와 같은 쿼리를 사용하여, 다른 노드가 더 최신 메세지를 먼저 반영했다면 덮어쓰지 않는다.
+  private void updateLastMessages(List<PendingMessage> messages, List<Long> messageIds,
+      Map<String, RoomMember> members) {
+    Map<String, Integer> lastIndexes = new LinkedHashMap<>();
+    for (int i = 0; i < messages.size(); i++) {
+      lastIndexes.put(messages.get(i).getRoomUid(), i);
+    }
+
+    lastIndexes.forEach((roomUid, index) -> {
+      PendingMessage message = messages.get(index);
+      RoomMember member = members.get(roomUid);
+
+      chatRoomRepository.updateLastMessage(member.getChatRoomId(), messageIds.get(index),
+          message.getMessage().getMessage(), message.getReceivedAt(),
+          member.isCustomer(message) ? UserRole.CUSTOMER : UserRole.OFFICE_OWNER);
+    });
+  }
+
+  // 받는 사람과 채팅방별로 메세지를 모아 커밋 이후 한 번에 증가시킨다.
+  private void incrementUnread(List<PendingMessage> messages, List<Long> messageIds,
+      Map<String, RoomMember> members) {
+    Map<String, Map<Long, LocalDateTime>> customerUnread = new HashMap<>();
+    Map<String, Map<Long, LocalDateTime>> officeOwnerUnread = new HashMap<>();
+
+    for (int i = 0; i < messages.size(); i++) {
+      PendingMessage message = messages.get(i);
+      RoomMember member = members.get(message.getRoomUid());
+      Map<String, Map<Long, LocalDateTime>> unread =
+          member.isCustomer(message) ? officeOwnerUnread : customerUnread;
+      unread.computeIfAbsent(message.getRoomUid(), roomUid -> new HashMap<>())
+          .put(messageIds.get(i), message.getReceivedAt());
+    }
+
+    customerUnread.forEach((roomUid, unread) -> {
+      RoomMember member = members.get(roomUid);
+      chatUnreadCounter.increment(UserRole.CUSTOMER, member.getCustomerId(),
+          member.getChatRoomId(), unread);
+    });
+    officeOwnerUnread.forEach((roomUid, unread) -> {
+      RoomMember member = members.get(roomUid);
+      chatUnreadCounter.increment(UserRole.OFFICE_OWNER, member.getOfficeOwnerId(),
+          member.getChatRoomId(), unread);
+    });
+  }
+
+  // 캐시에 없는 채팅방만 한 번의 쿼리로 조회한다.
+  private Map<String, RoomMember> findRoomMembers(List<PendingMessage> messages) {
+    Set<String> roomUids = messages.stream()
+        .map(PendingMessage::getRoomUid)
+        .collect(Collectors.toSet());
+
+    Map<String, RoomMember> result = new HashMap<>(roomMembers.getAllPresent(roomUids));
+    roomUids.removeAll(result.keySet());
+
+    if (!roomUids.isEmpty()) {
+      for (ChatRoom chatRoom : chatRoomRepository.findWithCustomerByRoomUidIn(roomUids)) {
+        RoomMember member = RoomMember.from(chatRoom);
+        roomMembers.put(chatRoom.getRoomUid(), member);
+        result.put(chatRoom.getRoomUid(), member);
+      }
+    }
+    return result;
+  }
+
+  @Getter
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class PendingMessage {
+
+    private final SendMessage message;
+    private final LocalDateTime receivedAt;
+    private final long receivedNanos;
+
+    private String getRoomUid() {
+      return message.getRoomUid();
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  private static class RoomMember {
+
+    private final Long chatRoomId;
+    private final Long customerId;
+    private final String customerName;
+    private final Long officeOwnerId;
+
+    private static RoomMember from(ChatRoom chatRoom) {
+      return new RoomMember(chatRoom.getId(), chatRoom.getCustomer().getId(),
+          chatRoom.getCustomer().getName(), chatRoom.getOfficeOwner().getId());
+    }
+
+    // ChatService.send와 같이 보낸 사람 이름이 고객 이름과 같으면 고객이 보낸 메세지로 본다.
+    private boolean isCustomer(PendingMessage pending) {
+      return Objects.equals(pending.getMessage().getSender(), customerName);
+    }
+  }
+}
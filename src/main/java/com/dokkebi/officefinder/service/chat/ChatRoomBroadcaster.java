@@ -0,0 +1,99 @@
+package com.dokkebi.officefinder.service.chat;
+
+import com.dokkebi.officefinder.config.ChatConfig;
+import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.SendMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 구독자에게 메세지를 전달하는 컴포넌트입니다.
+ * <p>
+ * simple 모드에서는 현재 노드의 simple broker로만 전달합니다. redis 모드에서는 현재 노드의 구독자에게 바로 전달한 뒤 Redis 채널로 발행하고, 다른
+ * 노드는 채널에서 받은 메세지를 자신의 simple broker로 전달하여 어느 노드에 접속했는지와 관계없이 메세지를 받을 수 있습니다. relay 모드에서는 외부
+ * STOMP broker가 노드 간 전달을 담당합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcaster implements MessageListener {
+
+  public static final String ROOM_DESTINATION_PREFIX = "/topic/chat/room/";
+
+  private static final String CHANNEL = "chat:room:message";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final SimpMessageSendingOperations sendingOperations;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final boolean redisRelay;
+
+  private final Counter publishedCounter;
+  private final Counter receivedCounter;
+
+  public ChatRoomBroadcaster(SimpMessageSendingOperations sendingOperations,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${chat.broker.mode:" + ChatConfig.BROKER_MODE_SIMPLE + "}") String brokerMode) {
+    this.sendingOperations = sendingOperations;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.redisRelay = ChatConfig.BROKER_MODE_REDIS.equals(brokerMode);
+
+    this.publishedCounter = meterRegistry.counter("chat.broadcast.published");
+    this.receivedCounter = meterRegistry.counter("chat.broadcast.received");
+
+    if (redisRelay) {
+      redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+  }
+
+  public void broadcast(SendMessage message) {
+    sendingOperations.convertAndSend(ROOM_DESTINATION_PREFIX + message.getRoomUid(), message);
+
+    if (!redisRelay) {
+      return;
+    }
+
+    try {
+      String body = objectMapper.writeValueAsString(message);
+      redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + body);
+      publishedCounter.increment();
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("chat message publish failed. roomUid : {}", message.getRoomUid(), e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+
+    // 자신이 발행한 메세지는 이미 현재 노드의 구독자에게 전달되었다.
+    if (body.length != 2 || nodeId.equals(body[0])) {
+      return;
+    }
+
+    try {
+      SendMessage sendMessage = objectMapper.readValue(body[1], SendMessage.class);
+      sendingOperations.convertAndSend(ROOM_DESTINATION_PREFIX + sendMessage.getRoomUid(),
+          sendMessage);
+      receivedCounter.increment();
+    } catch (JsonProcessingException e) {
+      log.warn("invalid chat message received from channel. body : {}", body[1]);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.dokkebi.officefinder.service.chat;
+
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마지막 메세지 스냅샷 컬럼이 추가되기 전에 만들어진 채팅방의 스냅샷을 채웁니다. 메세지가 있으면서 스냅샷이 비어 있는 채팅방만 대상으로 하므로
+ * 여러 번 실행되어도 결과는 같고, 한 번 채워진 이후에는 갱신되는 행이 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSnapshotBackfill {
+
+  private final ChatRoomRepository chatRoomRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfill() {
+    chatRoomRepository.backfillLastMessageId();
+    int updated = chatRoomRepository.backfillLastMessageSnapshot();
+
+    if (updated > 0) {
+      log.info("chat room last message snapshot backfilled. rooms={}", updated);
+    }
+  }
+}
@@ -14,19 +14,23 @@ import com.dokkebi.officefinder.entity.OfficeOwner;
 import com.dokkebi.officefinder.entity.chat.ChatMessage;
 import com.dokkebi.officefinder.entity.chat.ChatRoom;
 import com.dokkebi.officefinder.entity.office.Office;
+import com.dokkebi.officefinder.entity.type.UserRole;
 import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.CustomerRepository;
-import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
 import com.dokkebi.officefinder.repository.chat.ChatMessageRepository;
 import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
 import com.dokkebi.officefinder.security.TokenProvider;
-import java.util.ArrayList;
-import java.util.HashMap;
+import com.dokkebi.officefinder.service.chat.dto.ChatUnreadCount;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,10 +41,10 @@ public class ChatService {
 
   private final ChatRoomRepository chatRoomRepository;
   private final CustomerRepository customerRepository;
-  private final OfficeOwnerRepository officeOwnerRepository;
   private final OfficeRepository officeRepository;
   private final ChatMessageRepository chatMessageRepository;
   private final TokenProvider tokenProvider;
+  private final ChatUnreadCounter chatUnreadCounter;
 
   private final String CUSTOMER = "customer";
 
@@ -48,117 +52,56 @@ public class ChatService {
   @Transactional(readOnly = true)
   public List<ChatRoomStatus> findAllRoom(String jwt) {
     Long userId = tokenProvider.getUserIdFromHeader(jwt);
+    String userType = tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt));
 
-    List<ChatRoomStatus> result = new ArrayList<>();
-    if (tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt)).equals(CUSTOMER)) {
-      Customer customer = customerRepository.findById(userId)
-          .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-      List<ChatRoom> chatRooms = chatRoomRepository.findByCustomer(
-          customer);
-      List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).collect(Collectors.toList());
-      HashMap<ChatRoom, ChatMessage> chatMap = getChatMessageHashMap(
-          chatRoomIds);
-
-      for (ChatRoom chatRoom : chatRooms) {
-        if (chatMap.containsKey(chatRoom)) {
-          result.add(ChatRoomStatus.builder()
-              .roomUid(chatRoom.getRoomUid())
-              .roomName(chatRoom.getOfficeOwner().getName())
-              .userName(chatRoom.getCustomer().getName())
-              .profileImageUrl(chatRoom.getOfficeOwner().getOfficeOwnerProfileImage())
-              .lastMessage(chatMap.get(chatRoom).getMessage())
-              .lastMessageTime(chatMap.get(chatRoom).getCreatedAt())
-              .newMessage(
-                  chatMap.get(chatRoom).getCreatedAt().isAfter(chatRoom.getLastSeenCustomer()))
-              .build());
-        } else {
-          result.add(ChatRoomStatus.builder()
-              .roomUid(chatRoom.getRoomUid())
-              .roomName(chatRoom.getOfficeOwner().getName())
-              .userName(chatRoom.getCustomer().getName())
-              .profileImageUrl(chatRoom.getOfficeOwner().getOfficeOwnerProfileImage())
-              .lastMessage("")
-              .lastMessageTime(chatRoom.getLastSeenCustomer())
-              .newMessage(false)
-              .build());
-        }
-      }
-    } else {
-      OfficeOwner officeOwner = officeOwnerRepository.findById(userId)
-          .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-      List<ChatRoom> chatRooms = chatRoomRepository.findByOfficeOwner(officeOwner);
-      List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).collect(Collectors.toList());
-      HashMap<ChatRoom, ChatMessage> chatMap = getChatMessageHashMap(
-          chatRoomIds);
-
-      for (ChatRoom chatRoom : chatRooms) {
-        if (chatMap.containsKey(chatRoom)) {
-          result.add(ChatRoomStatus.builder()
-              .roomUid(chatRoom.getRoomUid())
-              .roomName(chatRoom.getCustomer().getName())
-              .userName(chatRoom.getOfficeOwner().getName())
-              .profileImageUrl(chatRoom.getCustomer().getProfileImage())
-              .lastMessage(chatMap.get(chatRoom).getMessage())
-              .lastMessageTime(chatMap.get(chatRoom).getCreatedAt())
-              .newMessage(
-                  chatMap.get(chatRoom).getCreatedAt().isAfter(chatRoom.getLastSeenOfficeOwner()))
-              .build());
-        } else {
-          result.add(ChatRoomStatus.builder()
-              .roomUid(chatRoom.getRoomUid())
-              .roomName(chatRoom.getCustomer().getName())
-              .userName(chatRoom.getOfficeOwner().getName())
-              .profileImageUrl(chatRoom.getCustomer().getProfileImage())
-              .lastMessage("")
-              .lastMessageTime(chatRoom.getLastSeenCustomer())
-              .newMessage(false)
-              .build());
-        }
-      }
-    }
-    return result;
-  }
+    List<ChatRoom> chatRooms = userType.equals(CUSTOMER)
+        ? chatRoomRepository.findWithMembersByCustomerId(userId)
+        : chatRoomRepository.findWithMembersByOfficeOwnerId(userId);
 
+    Map<Long, Long> unreadByRoom = unreadByRoom(toRole(userType), userId);
+
+    return chatRooms.stream()
+        .map(chatRoom -> toRoomStatus(chatRoom, userType,
+            unreadByRoom.getOrDefault(chatRoom.getId(), 0L)))
+        .collect(Collectors.toList());
+  }
 
   // 특정 회원에게 새로운 채팅 메세지가 왔는지
   @Transactional(readOnly = true)
   public boolean isNewMessage(String jwt) {
     Long userId = tokenProvider.getUserIdFromHeader(jwt);
+    String userType = tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt));
 
-    if (tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt)).equals(CUSTOMER)) {
-      Customer customer = customerRepository.findById(userId)
-          .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-      List<ChatRoom> chatRooms = chatRoomRepository.findByCustomer(
-          customer);
-      List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).collect(Collectors.toList());
-      HashMap<ChatRoom, ChatMessage> chatMap = getChatMessageHashMap(
-          chatRoomIds);
-
-      for (ChatRoom chatRoom : chatMap.keySet()) {
-        if (chatMap.get(chatRoom).getCreatedAt().isAfter(chatRoom.getLastSeenCustomer())) {
-          return true;
-        }
-
-      }
-    } else {
-      OfficeOwner officeOwner = officeOwnerRepository.findById(userId)
-          .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
-      List<ChatRoom> chatRooms = chatRoomRepository.findByOfficeOwner(officeOwner);
-      List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).collect(Collectors.toList());
-      HashMap<ChatRoom, ChatMessage> chatMap = getChatMessageHashMap(
-          chatRoomIds);
-
-      for (ChatRoom chatRoom : chatMap.keySet()) {
-        if (chatMap.get(chatRoom).getCreatedAt().isAfter(chatRoom.getLastSeenCustomer())) {
-          return true;
-        }
-      }
+    try {
+      return chatUnreadCounter.total(toRole(userType), userId) > 0;
+    } catch (DataAccessException e) {
+      log.warn("chat unread counter unavailable. userId : {}", userId, e);
+    }
+
+    if (userType.equals(CUSTOMER)) {
+      return chatRoomRepository.existsNewMessageByCustomerId(userId);
     }
-    return false;
+    return chatRoomRepository.existsNewMessageByOfficeOwnerId(userId);
   }
 
+  // 특정 회원의 읽지 않은 메세지 수
+  @Transactional(readOnly = true)
+  public long countUnreadMessage(String jwt) {
+    Long userId = tokenProvider.getUserIdFromHeader(jwt);
+    String userType = tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt));
+
+    try {
+      return chatUnreadCounter.total(toRole(userType), userId);
+    } catch (DataAccessException e) {
+      log.warn("chat unread counter unavailable. userId : {}", userId, e);
+    }
 
-  //특정 채팅방 내용 불러오기
+    return chatRoomRepository.countUnreadByMemberIds(toRole(userType), List.of(userId)).stream()
+        .mapToLong(ChatUnreadCount::getCount)
+        .sum();
+  }
+
+  //특정 채팅방 내용 불러오기 (전체 내역, 페이징을 지원하지 않는 클라이언트를 위한 fallback)
   @Transactional(readOnly = true)
   public List<ChatMessageResponse> roomInfo(String roomUid, String jwt) {
     String userType = tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt));
@@ -167,48 +110,38 @@ public class ChatService {
         .orElseThrow(() -> new CustomException(CHAT_ROOM_NOT_FOUND));
     List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoom(chatRoom);
 
-    String customerName = chatRoom.getCustomer().getName();
-    String officeOwnerName = chatRoom.getOfficeOwner().getName();
+    Function<ChatMessage, ChatMessageResponse> mapper = messageMapper(chatRoom, userType);
+    return chatMessages.stream().map(mapper).collect(Collectors.toList());
+  }
 
-    List<ChatMessageResponse> result = new ArrayList<>();
+  // 특정 채팅방 내용을 최신순으로 size개씩 불러오기 (beforeMessageId가 없으면 가장 최근 메세지부터)
+  @Transactional(readOnly = true)
+  public Slice<ChatMessageResponse> roomHistory(String roomUid, String jwt, Long beforeMessageId,
+      int size) {
+    String userType = tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt));
 
-    if (userType.equals(CUSTOMER)) {
-      for (ChatMessage chatMessage : chatMessages) {
-        String sender;
-        boolean isMyMsg = false;
-        if (chatMessage.getCustomerId() != null) {
-          sender = customerName;
-          isMyMsg = true;
-        } else {
-          sender = officeOwnerName;
-        }
-        result.add(ChatMessageResponse.builder()
-            .message(chatMessage.getMessage())
-            .isMyMessage(isMyMsg)
-            .sender(sender)
-            .createdAt(chatMessage.getCreatedAt())
-            .build());
-      }
-    } else {
-      for (ChatMessage chatMessage : chatMessages) {
-        String sender;
-        boolean isMyMsg = false;
-        if (chatMessage.getOfficeOwnerId() != null) {
-          sender = officeOwnerName;
-          isMyMsg = true;
-        } else {
-          sender = customerName;
-        }
-        result.add(ChatMessageResponse.builder()
-            .message(chatMessage.getMessage())
-            .isMyMessage(isMyMsg)
-            .sender(sender)
-            .createdAt(chatMessage.getCreatedAt())
-            .build());
-      }
+    ChatRoom chatRoom = chatRoomRepository.findByRoomUid(roomUid)
+        .orElseThrow(() -> new CustomException(CHAT_ROOM_NOT_FOUND));
+    Slice<ChatMessage> chatMessages = chatMessageRepository.findByChatRoomIdBefore(
+        chatRoom.getId(), beforeMessageId, size);
 
-    }
-    return result;
+    return chatMessages.map(messageMapper(chatRoom, userType));
+  }
+
+  // 특정 메세지 id 이후에 도착한 메세지를 오래된 순으로 불러오기
+  // 결과가 size개로 꽉 차 있다면 마지막 messageId로 다시 요청해야 한다.
+  @Transactional(readOnly = true)
+  public List<ChatMessageResponse> roomMessagesSince(String roomUid, String jwt,
+      Long sinceMessageId, int size) {
+    String userType = tokenProvider.getUserType(tokenProvider.resolveTokenFromHeader(jwt));
+
+    ChatRoom chatRoom = chatRoomRepository.findByRoomUid(roomUid)
+        .orElseThrow(() -> new CustomException(CHAT_ROOM_NOT_FOUND));
+    List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoomIdSince(
+        chatRoom.getId(), sinceMessageId, size);
+
+    Function<ChatMessage, ChatMessageResponse> mapper = messageMapper(chatRoom, userType);
+    return chatMessages.stream().map(mapper).collect(Collectors.toList());
   }
 
   //채팅방 생성
@@ -235,24 +168,38 @@ public class ChatService {
     ChatRoom chatRoom = chatRoomRepository.findByRoomUid(message.getRoomUid())
         .orElseThrow(() -> new CustomException(CHAT_ROOM_NOT_FOUND));
 
+    ChatMessage chatMessage;
+    UserRole sender;
     if (message.getSender().equals(chatRoom.getCustomer().getName())) {
-      chatMessageRepository.save(
+      chatMessage = chatMessageRepository.save(
           ChatMessage.builder()
               .chatRoom(chatRoom)
               .customerId(chatRoom.getCustomer().getId())
               .message(message.getMessage())
               .build()
       );
+      sender = UserRole.CUSTOMER;
     } else {
-      chatMessageRepository.save(
+      chatMessage = chatMessageRepository.save(
           ChatMessage.builder()
               .chatRoom(chatRoom)
               .officeOwnerId(chatRoom.getOfficeOwner().getId())
               .message(message.getMessage())
               .build()
       );
+      sender = UserRole.OFFICE_OWNER;
     }
 
+    chatRoomRepository.updateLastMessage(chatRoom.getId(), chatMessage.getId(),
+        chatMessage.getMessage(), chatMessage.getCreatedAt(), sender);
+
+    if (sender == UserRole.CUSTOMER) {
+      chatUnreadCounter.increment(UserRole.OFFICE_OWNER, chatRoom.getOfficeOwner().getId(),
+          chatRoom.getId(), chatMessage.getId(), chatMessage.getCreatedAt());
+    } else {
+      chatUnreadCounter.increment(UserRole.CUSTOMER, chatRoom.getCustomer().getId(),
+          chatRoom.getId(), chatMessage.getId(), chatMessage.getCreatedAt());
+    }
   }
 
   // 메세지 읽음
@@ -265,20 +212,62 @@ public class ChatService {
         .orElseThrow(() -> new CustomException(CHAT_ROOM_NOT_FOUND));
 
     chatRoom.readMessage(userType.equals(CUSTOMER) ? CUSTOMER : "agent");
+    chatUnreadCounter.reset(toRole(userType), userId, chatRoom.getId(),
+        userType.equals(CUSTOMER) ? chatRoom.getLastSeenCustomer()
+            : chatRoom.getLastSeenOfficeOwner());
   }
 
 
-  private HashMap<ChatRoom, ChatMessage> getChatMessageHashMap(List<Long> chatRoomIds) {
-    List<ChatMessage> chatMessages = chatMessageRepository.findTopByChatRoomInOrderByCreatedAtDesc(
-        chatRoomIds);
+  // Redis를 사용할 수 없으면 읽지 않은 메세지 수 없이 채팅방 목록을 반환한다.
+  private Map<Long, Long> unreadByRoom(UserRole role, Long userId) {
+    try {
+      return chatUnreadCounter.unreadByRoom(role, userId);
+    } catch (DataAccessException e) {
+      log.warn("chat unread counter unavailable. userId : {}", userId, e);
+      return Collections.emptyMap();
+    }
+  }
 
-    HashMap<ChatRoom, ChatMessage> chatMap = new HashMap<>();
+  private ChatRoomStatus toRoomStatus(ChatRoom chatRoom, String userType, long unreadCount) {
+    boolean isCustomer = userType.equals(CUSTOMER);
+    String customerName = chatRoom.getCustomer().getName();
+    String officeOwnerName = chatRoom.getOfficeOwner().getName();
 
-    for (ChatMessage chatMessage : chatMessages) {
-      chatMap.put(chatMessage.getChatRoom(), chatMessage);
-    }
-    return chatMap;
+    return ChatRoomStatus.builder()
+        .roomUid(chatRoom.getRoomUid())
+        .roomName(isCustomer ? officeOwnerName : customerName)
+        .userName(isCustomer ? customerName : officeOwnerName)
+        .profileImageUrl(isCustomer ? chatRoom.getOfficeOwner().getOfficeOwnerProfileImage()
+            : chatRoom.getCustomer().getProfileImage())
+        .lastMessage(chatRoom.hasMessage() ? chatRoom.getLastMessage() : "")
+        .lastMessageTime(chatRoom.hasMessage() ? chatRoom.getLastMessageAt()
+            : chatRoom.getLastSeenCustomer())
+        .newMessage(chatRoom.hasNewMessage(userType))
+        .unreadCount(unreadCount)
+        .build();
   }
 
-}
+  private UserRole toRole(String userType) {
+    return userType.equals(CUSTOMER) ? UserRole.CUSTOMER : UserRole.OFFICE_OWNER;
+  }
+
+  // 조회하는 회원 기준으로 보낸 사람 이름과 내 메세지 여부를 채워 응답으로 변환한다.
+  private Function<ChatMessage, ChatMessageResponse> messageMapper(ChatRoom chatRoom,
+      String userType) {
+    String customerName = chatRoom.getCustomer().getName();
+    String officeOwnerName = chatRoom.getOfficeOwner().getName();
+    boolean isCustomer = userType.equals(CUSTOMER);
+
+    return chatMessage -> {
+      boolean sentByCustomer = chatMessage.getCustomerId() != null;
+      return ChatMessageResponse.builder()
+          .messageId(chatMessage.getId())
+          .message(chatMessage.getMessage())
+          .isMyMessage(isCustomer == sentByCustomer)
+          .sender(sentByCustomer ? customerName : officeOwnerName)
+          .createdAt(chatMessage.getCreatedAt())
+          .build();
+    };
+  }
 
+}
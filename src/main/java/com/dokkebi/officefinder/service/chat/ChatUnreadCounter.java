@@ -0,0 +1,263 @@
+package com.dokkebi.officefinder.service.chat;
+
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import com.dokkebi.officefinder.service.chat.dto.ChatUnreadCount;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 읽지 않은 채팅 메세지 수를 Redis에 보관하는 컴포넌트입니다.
+ * <p>
+ * 회원마다 채팅방 id별 읽지 않은 메세지 수와 전체 합계(total)를 담은 hash를 두어, 전체 및 채팅방별 개수를 DB 조회 없이 반환합니다. 메세지 전송과
+ * 읽음 처리는 트랜잭션이 커밋된 이후에 반영됩니다.
+ * <p>
+ * hash가 없는 회원(처음 조회, state-ttl 만료, Redis 초기화)은 증가 요청을 무시하고, 조회 시점에 DB의 메세지와 마지막으로 읽은 시각으로 다시
+ * 만듭니다. 또한 reconcile()은 state-ttl마다 한 노드에서 채팅방이 있는 모든 회원의 개수를 다시 만들어 누락된 반영을 바로잡습니다.
+ * <p>
+ * 증가와 읽음 처리는 hash의 버전(version)을 함께 올립니다. 다시 만들 때는 DB 조회 전에 읽은 버전이 그대로인 경우에만 저장하여, 조회 중에 반영된
+ * 증가나 읽음 처리를 덮어쓰지 않습니다. 저장하지 못한 개수는 다음 조회 또는 reconcile에서 다시 만들어집니다.
+ * <p>
+ * DB 조회에 포함된 메세지의 증가 요청이 저장 이후에 도착해 두 번 세어지지 않도록, 채팅방별로 다시 만들 때 센 메세지 중 가장 큰 id(mark)를
+ * 기록하고 그 이하의 메세지는 증가시키지 않습니다. 또한 채팅방을 읽은 시각(seen)을 기록하여, 읽기 전에 받았지만 늦게 저장된 메세지는 DB와 같이
+ * 읽은 메세지로 봅니다.
+ */
+@Slf4j
+@Component
+public class ChatUnreadCounter {
+
+  private static final String TOTAL = "total";
+  private static final String VERSION = "version";
+  private static final String MARK_PREFIX = "mark:";
+  private static final String SEEN_PREFIX = "seen:";
+  private static final String RECONCILED_KEY = "chat:unread:reconciled";
+  private static final int RECONCILE_PAGE_SIZE = 500;
+
+  // KEYS : unread / ARGV : chatRoomId, stateTtlSeconds, (messageId, createdAtMillis)...
+  // mark 이하의 메세지와 채팅방을 읽은 시각 이전에 받은 메세지는 세지 않는다.
+  private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('HINCRBY', KEYS[1], 'version', 1) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+          + "if redis.call('HEXISTS', KEYS[1], 'total') == 0 then return -1 end "
+          + "local mark = tonumber(redis.call('HGET', KEYS[1], 'mark:' .. ARGV[1]) or '0') "
+          + "local seen = tonumber(redis.call('HGET', KEYS[1], 'seen:' .. ARGV[1]) or '0') "
+          + "local count = 0 "
+          + "for i = 3, #ARGV, 2 do "
+          + "  if tonumber(ARGV[i]) > mark and tonumber(ARGV[i + 1]) > seen then count = count + 1 end "
+          + "end "
+          + "if count == 0 then return tonumber(redis.call('HGET', KEYS[1], 'total')) end "
+          + "redis.call('HINCRBY', KEYS[1], ARGV[1], count) "
+          + "return redis.call('HINCRBY', KEYS[1], 'total', count)", Long.class);
+
+  // KEYS : unread / ARGV : chatRoomId, stateTtlSeconds, seenAtMillis
+  private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('HINCRBY', KEYS[1], 'version', 1) "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+          + "local seen = tonumber(redis.call('HGET', KEYS[1], 'seen:' .. ARGV[1]) or '0') "
+          + "if tonumber(ARGV[3]) > seen then redis.call('HSET', KEYS[1], 'seen:' .. ARGV[1], ARGV[3]) end "
+          + "local count = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') "
+          + "if count > 0 then "
+          + "  redis.call('HDEL', KEYS[1], ARGV[1]) "
+          + "  redis.call('HINCRBY', KEYS[1], 'total', -count) "
+          + "end "
+          + "return count", Long.class);
+
+  // KEYS : unread / ARGV : stateTtlSeconds, version, total, (chatRoomId, count, maxMessageId)...
+  // 채팅방을 읽은 시각(seen)은 DB의 마지막으로 읽은 시각과 같으므로 남겨 둔다.
+  private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+      "if (redis.call('HGET', KEYS[1], 'version') or '0') ~= ARGV[2] then return 0 end "
+          + "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do "
+          + "  if string.sub(field, 1, 5) ~= 'seen:' then redis.call('HDEL', KEYS[1], field) end "
+          + "end "
+          + "redis.call('HSET', KEYS[1], 'version', ARGV[2], 'total', ARGV[3]) "
+          + "for i = 4, #ARGV, 3 do "
+          + "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1], 'mark:' .. ARGV[i], ARGV[i + 2]) "
+          + "end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+          + "return 1", Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ChatRoomRepository chatRoomRepository;
+  private final Duration stateTtl;
+
+  public ChatUnreadCounter(StringRedisTemplate redisTemplate,
+      ChatRoomRepository chatRoomRepository,
+      @Value("${chat.unread.state-ttl:7d}") Duration stateTtl) {
+    this.redisTemplate = redisTemplate;
+    this.chatRoomRepository = chatRoomRepository;
+    this.stateTtl = stateTtl;
+  }
+
+  // 메세지를 받는 회원의 읽지 않은 메세지 수를 커밋 이후 1 증가시킨다.
+  public void increment(UserRole recipient, Long memberId, Long chatRoomId, Long messageId,
+      LocalDateTime createdAt) {
+    increment(recipient, memberId, chatRoomId, Map.of(messageId, createdAt));
+  }
+
+  // 한 채팅방에 여러 메세지(메세지 id, 받은 시각)가 함께 저장된 경우 개수를 한 번에 증가시킨다.
+  public void increment(UserRole recipient, Long memberId, Long chatRoomId,
+      Map<Long, LocalDateTime> messages) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(chatRoomId));
+    args.add(String.valueOf(stateTtl.toSeconds()));
+    messages.forEach((messageId, createdAt) -> {
+      args.add(String.valueOf(messageId));
+      args.add(String.valueOf(toMillis(createdAt)));
+    });
+
+    afterCommit(() -> redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(recipient, memberId)),
+        args.toArray()), memberId);
+  }
+
+  // 채팅방을 읽은 회원의 해당 채팅방 읽지 않은 메세지 수를 커밋 이후 0으로 만든다. seenAt은 DB에 저장한 마지막으로 읽은 시각이다.
+  public void reset(UserRole role, Long memberId, Long chatRoomId, LocalDateTime seenAt) {
+    afterCommit(() -> redisTemplate.execute(RESET_SCRIPT, List.of(key(role, memberId)),
+        String.valueOf(chatRoomId), String.valueOf(stateTtl.toSeconds()),
+        String.valueOf(toMillis(seenAt))), memberId);
+  }
+
+  public long total(UserRole role, Long memberId) {
+    Object total = redisTemplate.opsForHash().get(key(role, memberId), TOTAL);
+
+    if (total == null) {
+      return rebuild(role, List.of(memberId)).get(memberId).values().stream()
+          .mapToLong(Long::longValue)
+          .sum();
+    }
+    return Long.parseLong(total.toString());
+  }
+
+  // 채팅방 id별 읽지 않은 메세지 수 (읽지 않은 메세지가 없는 채팅방은 포함되지 않는다.)
+  public Map<Long, Long> unreadByRoom(UserRole role, Long memberId) {
+    Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(role, memberId));
+
+    if (!entries.containsKey(TOTAL)) {
+      return rebuild(role, List.of(memberId)).get(memberId);
+    }
+
+    Map<Long, Long> result = new HashMap<>();
+    entries.forEach((field, count) -> {
+      if (isChatRoomField(field.toString())) {
+        result.put(Long.parseLong(field.toString()), Long.parseLong(count.toString()));
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Redis가 초기화되었거나 state-ttl이 지난 경우 채팅방이 있는 모든 회원의 읽지 않은 메세지 수를 DB로 다시 만듭니다. 여러 노드에서 호출되어도
+   * state-ttl 동안 한 노드만 실행합니다.
+   */
+  public void reconcile() {
+    Boolean acquired = redisTemplate.opsForValue().setIfAbsent(RECONCILED_KEY,
+        String.valueOf(System.currentTimeMillis()), stateTtl);
+
+    if (!Boolean.TRUE.equals(acquired)) {
+      return;
+    }
+
+    int rebuilt = 0;
+    for (UserRole role : UserRole.values()) {
+      Long lastMemberId = null;
+      List<Long> memberIds;
+
+      do {
+        memberIds = chatRoomRepository.findMemberIdsAfter(role, lastMemberId, RECONCILE_PAGE_SIZE);
+        if (!memberIds.isEmpty()) {
+          rebuild(role, memberIds);
+          lastMemberId = memberIds.get(memberIds.size() - 1);
+          rebuilt += memberIds.size();
+        }
+      } while (memberIds.size() == RECONCILE_PAGE_SIZE);
+    }
+
+    log.info("chat unread counters reconciled. members={}", rebuilt);
+  }
+
+  // 회원 id별로 채팅방 id별 읽지 않은 메세지 수를 DB에서 계산하여 Redis에 저장한다.
+  // DB 조회 이후 버전이 바뀐 회원은 저장하지 않고, 계산한 개수만 반환한다.
+  private Map<Long, Map<Long, Long>> rebuild(UserRole role, List<Long> memberIds) {
+    Map<Long, String> versions = new HashMap<>();
+    memberIds.forEach(memberId -> {
+      Object version = redisTemplate.opsForHash().get(key(role, memberId), VERSION);
+      versions.put(memberId, version == null ? "0" : version.toString());
+    });
+
+    Map<Long, List<ChatUnreadCount>> unreads = new HashMap<>();
+    memberIds.forEach(memberId -> unreads.put(memberId, new ArrayList<>()));
+
+    for (ChatUnreadCount unread : chatRoomRepository.countUnreadByMemberIds(role, memberIds)) {
+      unreads.get(unread.getMemberId()).add(unread);
+    }
+
+    Map<Long, Map<Long, Long>> counts = new HashMap<>();
+    unreads.forEach((memberId, rooms) -> {
+      List<String> args = new ArrayList<>();
+      args.add(String.valueOf(stateTtl.toSeconds()));
+      args.add(versions.get(memberId));
+      args.add(String.valueOf(rooms.stream().mapToLong(ChatUnreadCount::getCount).sum()));
+
+      Map<Long, Long> byRoom = new HashMap<>();
+      rooms.forEach(unread -> {
+        args.add(String.valueOf(unread.getChatRoomId()));
+        args.add(String.valueOf(unread.getCount()));
+        args.add(String.valueOf(unread.getMaxMessageId()));
+        byRoom.put(unread.getChatRoomId(), unread.getCount());
+      });
+
+      redisTemplate.execute(REBUILD_SCRIPT, List.of(key(role, memberId)), args.toArray());
+      counts.put(memberId, byRoom);
+    });
+
+    return counts;
+  }
+
+  private void afterCommit(Runnable action, Long memberId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      runQuietly(action, memberId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runQuietly(action, memberId);
+      }
+    });
+  }
+
+  // 반영에 실패한 개수는 다음 reconcile 또는 state-ttl 만료 후 다시 만들어진다.
+  private void runQuietly(Runnable action, Long memberId) {
+    try {
+      action.run();
+    } catch (RuntimeException e) {
+      log.warn("chat unread counter update failed. memberId : {}", memberId, e);
+    }
+  }
+
+  private boolean isChatRoomField(String field) {
+    return !TOTAL.equals(field) && !VERSION.equals(field) && !field.startsWith(MARK_PREFIX)
+        && !field.startsWith(SEEN_PREFIX);
+  }
+
+  private long toMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private String key(UserRole role, Long memberId) {
+    return "chat:unread:" + role.name().toLowerCase() + ":" + memberId;
+  }
+}
@@ -0,0 +1,15 @@
+package com.dokkebi.officefinder.service.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원별, 채팅방별로 읽지 않은 메세지 수와 그중 가장 큰 메세지 id
+@Getter
+@AllArgsConstructor
+public class ChatUnreadCount {
+
+  private Long memberId;
+  private Long chatRoomId;
+  private Long count;
+  private Long maxMessageId;
+}
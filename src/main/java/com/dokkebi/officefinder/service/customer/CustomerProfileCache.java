@@ -0,0 +1,134 @@
+package com.dokkebi.officefinder.service.customer;
+
+import static com.dokkebi.officefinder.exception.CustomErrorCode.USER_NOT_FOUND;
+
+import com.dokkebi.officefinder.exception.CustomException;
+import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.service.customer.dto.CustomerServiceDto.CustomerProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 리뷰 작성자처럼 목록에 함께 노출되는 회원 표시 정보(이름, 프로필 이미지) 캐시입니다. 캐시에 없는 회원은 한 번의 IN 쿼리로 읽어옵니다.
+ * <p>
+ * 회원 정보가 변경되면 커밋 이후 캐시에서 제거하고, Redis 채널로 다른 노드에 알려 같은 회원을 제거하도록 합니다.
+ */
+@Slf4j
+@Component
+public class CustomerProfileCache implements MessageListener {
+
+  private static final String CHANNEL = "customer:profile:invalidation";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final CustomerRepository customerRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final Cache<Long, CustomerProfile> profiles;
+
+  public CustomerProfileCache(CustomerRepository customerRepository,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      @Value("${cache.customer-profile.ttl-seconds:600}") long ttlSeconds,
+      @Value("${cache.customer-profile.max-size:10000}") long maxSize) {
+
+    this.customerRepository = customerRepository;
+    this.redisTemplate = redisTemplate;
+    this.profiles = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .maximumSize(maxSize)
+        .build();
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  public CustomerProfiles load(Collection<Long> customerIds) {
+    Map<Long, CustomerProfile> loaded = profiles.getAll(new LinkedHashSet<>(customerIds),
+        this::findProfiles);
+
+    return new CustomerProfiles(loaded);
+  }
+
+  // 이름, 프로필 이미지가 변경된 경우 호출, 트랜잭션 안에서 호출되면 커밋 이후에 제거된다.
+  public void evict(Long customerId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictAndPublish(customerId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evictAndPublish(customerId);
+      }
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+    // 자신이 발행한 메시지는 이미 반영되어 있다.
+    if (body.length != 2 || nodeId.equals(body[0])) {
+      return;
+    }
+
+    profiles.invalidate(Long.valueOf(body[1]));
+  }
+
+  private void evictAndPublish(Long customerId) {
+    profiles.invalidate(customerId);
+
+    try {
+      redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + customerId);
+    } catch (RuntimeException e) {
+      // 발행에 실패해도 다른 노드의 캐시는 TTL 이후 갱신된다.
+      log.warn("customer profile invalidation publish failed. customerId : {}", customerId, e);
+    }
+  }
+
+  private Map<Long, CustomerProfile> findProfiles(Iterable<? extends Long> customerIds) {
+    List<Long> ids = new ArrayList<>();
+    customerIds.forEach(ids::add);
+
+    return customerRepository.findAllById(ids).stream()
+        .map(CustomerProfile::from)
+        .collect(Collectors.toMap(CustomerProfile::getId, Function.identity()));
+  }
+
+  @RequiredArgsConstructor
+  public static class CustomerProfiles {
+
+    private final Map<Long, CustomerProfile> profiles;
+
+    public CustomerProfile get(Long customerId) {
+      CustomerProfile profile = profiles.get(customerId);
+
+      if (profile == null) {
+        throw new CustomException(USER_NOT_FOUND);
+      }
+
+      return profile;
+    }
+  }
+}
@@ -9,7 +9,9 @@ import com.dokkebi.officefinder.entity.Customer;
 import com.dokkebi.officefinder.entity.PointChargeHistory;
 import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.repository.ReviewRepository;
 import com.dokkebi.officefinder.repository.history.ChargeHistoryRepository;
+import com.dokkebi.officefinder.service.office.OfficeDetailService;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,9 @@ public class CustomerService {
 
   private final CustomerRepository customerRepository;
   private final ChargeHistoryRepository chargeHistoryRepository;
+  private final CustomerProfileCache customerProfileCache;
+  private final ReviewRepository reviewRepository;
+  private final OfficeDetailService officeDetailService;
 
   @Transactional
   public void chargeCustomerPoint(long amount, String customerEmail) {
@@ -68,6 +73,7 @@ public class CustomerService {
         .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
     customer.changeProfileImage(imagePath);
+    evictProfile(customer.getId());
   }
 
   @Transactional
@@ -76,6 +82,13 @@ public class CustomerService {
         .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
 
     customer.changeUserName(newCustomerName);
+    evictProfile(customerId);
+  }
+
+  // 작성자 정보가 포함된 캐시(회원 표시 정보, 리뷰를 작성한 오피스의 상세 정보)를 커밋 이후 제거
+  private void evictProfile(Long customerId) {
+    customerProfileCache.evict(customerId);
+    reviewRepository.findOfficeIdsByCustomerId(customerId).forEach(officeDetailService::evict);
   }
 
   private Set<PointChargeHistoryDto> toDtoSet(Set<PointChargeHistory> histories) {
@@ -1,5 +1,28 @@
 package com.dokkebi.officefinder.service.customer.dto;
 
+import com.dokkebi.officefinder.entity.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
 public class CustomerServiceDto {
 
+  // 리뷰 작성자 등 다른 화면에 노출되는 회원 표시 정보
+  @Getter
+  @AllArgsConstructor
+  @Builder
+  public static class CustomerProfile {
+
+    private Long id;
+    private String name;
+    private String profileImage;
+
+    public static CustomerProfile from(Customer customer) {
+      return CustomerProfile.builder()
+          .id(customer.getId())
+          .name(customer.getName())
+          .profileImage(customer.getProfileImage())
+          .build();
+    }
+  }
 }
@@ -21,6 +21,7 @@ import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.CustomerRepository;
 import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
 import com.dokkebi.officefinder.repository.ReviewRepository;
+import com.dokkebi.officefinder.repository.count.PageCountCache;
 import com.dokkebi.officefinder.repository.lease.LeaseRepository;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
 import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
@@ -28,14 +29,16 @@ import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseLookUpSer
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseOfficeRequestDto;
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseOfficeServiceResponse;
 import com.dokkebi.officefinder.service.notification.NotificationService;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader;
+import com.dokkebi.officefinder.service.office.OfficePictureLoader.OfficePictures;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +56,10 @@ public class LeaseService {
   private final ReviewRepository reviewRepository;
   private final OfficePictureRepository officePictureRepository;
   private final NotificationService notificationService;
+  private final OfficePictureLoader officePictureLoader;
+  private final PageCountCache pageCountCache;
+  private final OfficeOccupancyCache officeOccupancyCache;
+  private final OfficeRoomReservation officeRoomReservation;
 
   /**
    * 오피스 임대 서비스를 처리하는 메서드입니다. 고객의 이메일을 통해 고객의 정보를 조회하고, 고객이 임대를 요청한 오피스 정보를 조회합니다. 오피스의 이용 개월 수와
@@ -72,18 +79,23 @@ public class LeaseService {
     Office office = officeRepository.findById(leaseOfficeRequestDto.getOfficeId())
         .orElseThrow(() -> new CustomException(INVALID_OFFICE_ID));
 
-    checkAvailableRooms(leaseOfficeRequestDto, office.getMaxRoomCount());
     checkOfficeCapacity(office, leaseOfficeRequestDto.getCustomerCount());
 
     long totalPrice = leaseOfficeRequestDto.getMonths() * office.getLeaseFee();
     checkCustomerPoints(customer, totalPrice);
 
+    // 다른 검증이 모두 끝난 뒤 방을 예약하여, 실패한 요청이 예약을 잡고 있지 않도록 한다.
+    reserveRoom(leaseOfficeRequestDto, office.getMaxRoomCount());
+
     customer.usePoint(totalPrice);
 
     Lease lease = Lease.fromRequest(customer, office, totalPrice, leaseOfficeRequestDto);
     Lease savedLease = leaseRepository.save(lease);
+    evictLeaseCount(customer.getId(), office.getId());
+    officeOccupancyCache.occupy(office.getId(), savedLease.getLeaseStartDate(),
+        savedLease.getLeaseEndDate());
 
-    notificationService.sendToOwner(office.getOwner(), NotificationType.LEASE_REQUEST_ARRIVED,
+    notificationService.publishToOwner(office.getOwner(), NotificationType.LEASE_REQUEST_ARRIVED,
         "임대 요청", office.getName() + "에 임대 요청이 들어왔습니다");
 
     return LeaseOfficeServiceResponse.of(savedLease);
@@ -94,10 +106,27 @@ public class LeaseService {
         .orElseThrow(() -> new CustomException(EMAIL_NOT_REGISTERED));
 
     Page<Lease> leases = leaseRepository.findByCustomerId(customer.getId(), pageable);
+    OfficePictures pictures = officePictureLoader.load(
+        leases.map(lease -> lease.getOffice().getId()).getContent());
 
     return leases.map(lease -> LeaseLookUpServiceResponse.of(lease,
         lease.getLeaseStatus().equals(LeaseStatus.REVIEWED),
-        officePictureRepository.findByOfficeId(lease.getOffice().getId())));
+        pictures.get(lease.getOffice().getId())));
+  }
+
+  public Slice<LeaseLookUpServiceResponse> getLeaseListAfter(String email, Long lastLeaseId,
+      int size) {
+    Customer customer = customerRepository.findByEmail(email)
+        .orElseThrow(() -> new CustomException(EMAIL_NOT_REGISTERED));
+
+    Slice<Lease> leases = leaseRepository.findByCustomerIdAfter(customer.getId(), lastLeaseId,
+        size);
+    OfficePictures pictures = officePictureLoader.load(
+        leases.map(lease -> lease.getOffice().getId()).getContent());
+
+    return leases.map(lease -> LeaseLookUpServiceResponse.of(lease,
+        lease.getLeaseStatus().equals(LeaseStatus.REVIEWED),
+        pictures.get(lease.getOffice().getId())));
   }
 
   public LeaseLookUpServiceResponse getLeaseInfo(Long customerId, Long leaseId) {
@@ -132,11 +161,13 @@ public class LeaseService {
   public void acceptLeaseRequest(Long leaseId) {
     Lease lease = leaseRepository.findByLeaseId(leaseId)
         .orElseThrow(() -> new CustomException(LEASE_NOT_FOUND));
+    checkAwaiting(lease);
 
     // 변경 후 저장안해도 더티 체킹으로 인해 반영됨
     lease.changeLeaseStatus(LeaseStatus.ACCEPTED);
+    evictLeaseCount(lease.getCustomer().getId(), lease.getOffice().getId());
 
-    notificationService.sendToCustomer(lease.getCustomer(), NotificationType.LEASE_ACCEPTED,
+    notificationService.publishToCustomer(lease.getCustomer(), NotificationType.LEASE_ACCEPTED,
         "임대 요청 수락",
         lease.getOffice().getName() + "에 대한 임대 요청이 수락되었습니다.");
   }
@@ -146,17 +177,36 @@ public class LeaseService {
     Lease lease = leaseRepository.findByLeaseId(leaseId)
         .orElseThrow(() -> new CustomException(LEASE_NOT_FOUND));
 
+    // 이미 처리된 요청을 다시 거절하면 환급과 방 반환이 중복되므로 대기 상태인 요청만 거절한다.
+    checkAwaiting(lease);
+
     // 임대 거절시 포인트를 다시 환급
     refundPayment(lease.getCustomer(), lease.getPrice());
 
     // 거절 상태로 바꿈
     lease.changeLeaseStatus(LeaseStatus.DENIED);
+    evictLeaseCount(lease.getCustomer().getId(), lease.getOffice().getId());
+    officeOccupancyCache.release(lease.getOffice().getId(), lease.getLeaseStartDate(),
+        lease.getLeaseEndDate());
+    releaseRoom(lease);
 
-    notificationService.sendToCustomer(lease.getCustomer(), NotificationType.LEASE_DENIED,
+    notificationService.publishToCustomer(lease.getCustomer(), NotificationType.LEASE_DENIED,
         "임대 요청 거절",
         lease.getOffice().getName() + "에 대한 임대 요청이 거절되었습니다.");
   }
 
+  // 임대 정보가 변경되면 해당 회원, 오피스의 임대 목록 count 캐시를 무효화
+  private void evictLeaseCount(Long customerId, Long officeId) {
+    pageCountCache.evict(PageCountCache.LEASE, "customer:" + customerId + ":");
+    pageCountCache.evict(PageCountCache.LEASE, "office:" + officeId + ":");
+  }
+
+  private void checkAwaiting(Lease lease) {
+    if (lease.getLeaseStatus() != LeaseStatus.AWAIT) {
+      throw new CustomException(LEASE_NOT_AWAITING);
+    }
+  }
+
   private void refundPayment(Customer customer, long price) {
     customer.chargePoint(price);
   }
@@ -173,14 +223,38 @@ public class LeaseService {
     }
   }
 
+  // Redis에서 기간 내 방을 원자적으로 예약한다. Redis를 사용할 수 없으면 로컬 점유 현황으로 확인하고, 커밋 이후 Redis의 사용 개수를
+  // 다시 만들게 한다.
+  private void reserveRoom(LeaseOfficeRequestDto request, int maxRoomCount) {
+    LocalDate endDate = request.getStartDate().plusMonths(request.getMonths());
+
+    try {
+      officeRoomReservation.reserve(request.getOfficeId(), request.getStartDate(), endDate,
+          maxRoomCount);
+    } catch (DataAccessException e) {
+      log.warn("room reservation unavailable. officeId : {}", request.getOfficeId(), e);
+      checkAvailableRooms(request, maxRoomCount);
+      officeRoomReservation.invalidate(request.getOfficeId());
+    }
+  }
+
+  private void releaseRoom(Lease lease) {
+    try {
+      officeRoomReservation.release(lease.getOffice().getId(), lease.getLeaseStartDate(),
+          lease.getLeaseEndDate());
+    } catch (DataAccessException e) {
+      log.warn("room release failed. leaseId : {}", lease.getId(), e);
+    }
+  }
+
+  // 임대 기간 중 사용 중인 방이 가장 많은 날에도 남는 방이 있어야 한다.
   private void checkAvailableRooms(LeaseOfficeRequestDto office, int maxRoomCount) {
     LocalDate endDate = office.getStartDate().plusMonths(office.getMonths());
-    List<LeaseStatus> leaseStatus = Arrays.asList(LeaseStatus.AWAIT, LeaseStatus.ACCEPTED);
 
-    Long roomUsed = leaseRepository.countOfficeRoomInUse(office.getOfficeId(), leaseStatus,
-        office.getStartDate(), endDate);
+    long roomUsed = officeOccupancyCache.maxOccupied(office.getOfficeId(), office.getStartDate(),
+        endDate);
 
-    if (roomUsed != null && roomUsed >= maxRoomCount) {
+    if (roomUsed >= maxRoomCount) {
       throw new CustomException(NO_ROOMS_AVAILABLE_FOR_LEASE);
     }
   }
@@ -0,0 +1,104 @@
+package com.dokkebi.officefinder.service.lease;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 한 오피스의 날짜별 사용 중인 방 개수입니다.
+ * <p>
+ * baseDate부터 days일 동안의 날짜를 구간 덧셈, 구간 최대값을 지원하는 세그먼트 트리로 관리하여 임대 추가/해제와 "기간 중 가장 많이 사용된 날의 방
+ * 개수" 조회를 O(log n)에 처리합니다. baseDate 이전 날짜는 무시되고, 이후 날짜는 days 범위까지만 기록됩니다.
+ */
+public class OfficeOccupancy {
+
+  private final LocalDate baseDate;
+  private final int days;
+  // 한 오피스의 방 개수는 int 범위를 넘지 않으므로 메모리를 줄이기 위해 int로 기록한다.
+  private final int[] max;
+  private final int[] lazy;
+
+  public OfficeOccupancy(LocalDate baseDate, int days) {
+    this.baseDate = baseDate;
+    this.days = days;
+    this.max = new int[days * 4];
+    this.lazy = new int[days * 4];
+  }
+
+  public LocalDate getBaseDate() {
+    return baseDate;
+  }
+
+  // 캐시 크기 제한에 사용하는 대략적인 메모리 사용량(byte)
+  public int estimatedBytes() {
+    return (max.length + lazy.length) * Integer.BYTES;
+  }
+
+  // 조회 기간의 마지막 날이 기록 범위 안에 있는지 확인
+  public boolean covers(LocalDate endDate) {
+    return index(endDate) < days;
+  }
+
+  // 임대 기간(startDate ~ endDate, 양 끝 포함)의 날짜별 사용 개수에 delta를 더한다.
+  public synchronized void add(LocalDate startDate, LocalDate endDate, int delta) {
+    int from = Math.max(index(startDate), 0);
+    int to = Math.min(index(endDate), days - 1);
+
+    if (from > to) {
+      return;
+    }
+
+    add(1, 0, days - 1, from, to, delta);
+  }
+
+  // 기간(startDate ~ endDate, 양 끝 포함) 중 사용 중인 방이 가장 많은 날의 개수
+  public synchronized long maxOccupied(LocalDate startDate, LocalDate endDate) {
+    int from = Math.max(index(startDate), 0);
+    int to = Math.min(index(endDate), days - 1);
+
+    if (from > to) {
+      return 0;
+    }
+
+    return max(1, 0, days - 1, from, to);
+  }
+
+  private int index(LocalDate date) {
+    return (int) ChronoUnit.DAYS.between(baseDate, date);
+  }
+
+  private void add(int node, int left, int right, int from, int to, int delta) {
+    if (to < left || right < from) {
+      return;
+    }
+
+    if (from <= left && right <= to) {
+      max[node] += delta;
+      lazy[node] += delta;
+      return;
+    }
+
+    int mid = (left + right) / 2;
+    add(node * 2, left, mid, from, to, delta);
+    add(node * 2 + 1, mid + 1, right, from, to, delta);
+    max[node] = Math.max(max[node * 2], max[node * 2 + 1]) + lazy[node];
+  }
+
+  // 구간과 겹치는 자식만 방문하므로 항상 하나 이상의 자식 결과가 존재한다.
+  private int max(int node, int left, int right, int from, int to) {
+    if (from <= left && right <= to) {
+      return max[node];
+    }
+
+    int mid = (left + right) / 2;
+    int result = Integer.MIN_VALUE;
+
+    if (from <= mid) {
+      result = max(node * 2, left, mid, from, to);
+    }
+    if (to > mid) {
+      result = Math.max(result, max(node * 2 + 1, mid + 1, right, from, to));
+    }
+
+    return result + lazy[node];
+  }
+}
@@ -0,0 +1,154 @@
+package com.dokkebi.officefinder.service.lease;
+
+import com.dokkebi.officefinder.entity.lease.Lease;
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import com.dokkebi.officefinder.repository.lease.LeaseRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 오피스별 날짜별 방 사용 현황({@link OfficeOccupancy}) 캐시입니다. 임대 요청 시 DB 조회 없이 남은 방이 있는지 확인합니다.
+ * <p>
+ * 처음 조회할 때 오늘 이후까지 이어지는 임대들로 현황을 만들고, 이 노드에서 일어난 임대 생성/거절은 커밋 이후 현황에 반영합니다. 다른 노드의 변경은
+ * Redis 채널로 전달되어 해당 오피스의 현황을 다시 만들도록 제거되며, 날짜가 바뀌면(만료된 임대 제외) 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class OfficeOccupancyCache implements MessageListener {
+
+  // 방을 점유하는 임대 상태
+  public static final List<LeaseStatus> OCCUPYING_STATUS = List.of(LeaseStatus.AWAIT,
+      LeaseStatus.ACCEPTED, LeaseStatus.PROCEEDING);
+
+  private static final String CHANNEL = "office:occupancy:invalidation";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final LeaseRepository leaseRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final Cache<Long, OfficeOccupancy> occupancies;
+  private final int horizonDays;
+
+  public OfficeOccupancyCache(LeaseRepository leaseRepository,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      @Value("${cache.office-occupancy.ttl-seconds:600}") long ttlSeconds,
+      @Value("${cache.office-occupancy.max-memory-mb:64}") long maxMemoryMb,
+      @Value("${cache.office-occupancy.horizon-days:730}") int horizonDays) {
+
+    this.leaseRepository = leaseRepository;
+    this.redisTemplate = redisTemplate;
+    this.horizonDays = horizonDays;
+    // 오피스 하나가 horizon-days에 비례하는 배열을 가지므로(730일 기준 약 23KB) 개수 대신 메모리 사용량으로 제한한다.
+    this.occupancies = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .maximumWeight(maxMemoryMb * 1024 * 1024)
+        .weigher((Long officeId, OfficeOccupancy occupancy) -> occupancy.estimatedBytes())
+        .build();
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  // 기간(startDate ~ endDate) 중 사용 중인 방이 가장 많은 날의 방 개수
+  public long maxOccupied(Long officeId, LocalDate startDate, LocalDate endDate) {
+    OfficeOccupancy occupancy = get(officeId);
+
+    // 기록 범위를 벗어나는 긴 기간은 DB에서 확인
+    if (!occupancy.covers(endDate)) {
+      Long count = leaseRepository.countOfficeRoomInUse(officeId, OCCUPYING_STATUS, startDate,
+          endDate);
+      return count == null ? 0 : count;
+    }
+
+    return occupancy.maxOccupied(startDate, endDate);
+  }
+
+  // 방을 점유하는 임대가 생성된 경우 호출
+  public void occupy(Long officeId, LocalDate startDate, LocalDate endDate) {
+    afterCommit(officeId, startDate, endDate, 1);
+  }
+
+  // 임대가 거절, 취소되어 방이 반환된 경우 호출
+  public void release(Long officeId, LocalDate startDate, LocalDate endDate) {
+    afterCommit(officeId, startDate, endDate, -1);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+    // 자신이 발행한 메시지는 이미 반영되어 있다.
+    if (body.length != 2 || nodeId.equals(body[0])) {
+      return;
+    }
+
+    occupancies.invalidate(Long.valueOf(body[1]));
+  }
+
+  private OfficeOccupancy get(Long officeId) {
+    LocalDate today = LocalDate.now();
+    OfficeOccupancy occupancy = occupancies.get(officeId, id -> load(id, today));
+
+    if (!occupancy.getBaseDate().equals(today)) {
+      occupancy = load(officeId, today);
+      occupancies.put(officeId, occupancy);
+    }
+
+    return occupancy;
+  }
+
+  private OfficeOccupancy load(Long officeId, LocalDate today) {
+    OfficeOccupancy occupancy = new OfficeOccupancy(today, horizonDays);
+    List<Lease> leases = leaseRepository.findOccupyingLeases(officeId, OCCUPYING_STATUS, today);
+
+    for (Lease lease : leases) {
+      occupancy.add(lease.getLeaseStartDate(), lease.getLeaseEndDate(), 1);
+    }
+
+    return occupancy;
+  }
+
+  private void afterCommit(Long officeId, LocalDate startDate, LocalDate endDate, int delta) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(officeId, startDate, endDate, delta);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(officeId, startDate, endDate, delta);
+      }
+    });
+  }
+
+  private void apply(Long officeId, LocalDate startDate, LocalDate endDate, int delta) {
+    // 캐시에 없는 오피스는 다음 조회 시 DB에서 다시 만든다.
+    OfficeOccupancy occupancy = occupancies.getIfPresent(officeId);
+
+    if (occupancy != null) {
+      occupancy.add(startDate, endDate, delta);
+    }
+
+    try {
+      redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + officeId);
+    } catch (RuntimeException e) {
+      log.warn("office occupancy invalidation publish failed. officeId : {}", officeId, e);
+    }
+  }
+}
@@ -0,0 +1,326 @@
+package com.dokkebi.officefinder.service.lease;
+
+import static com.dokkebi.officefinder.exception.CustomErrorCode.NO_ROOMS_AVAILABLE_FOR_LEASE;
+
+import com.dokkebi.officefinder.entity.lease.Lease;
+import com.dokkebi.officefinder.exception.CustomException;
+import com.dokkebi.officefinder.repository.lease.LeaseRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis Lua 스크립트로 오피스의 날짜별 방 개수를 한 번에 확인하고 예약하는 컴포넌트입니다.
+ * <p>
+ * 오피스마다 날짜(epoch day)별 사용 개수를 담은 hash를 두고, 예약은 기간 내 모든 날짜에 남은 방이 있을 때만 한 번에 증가시킵니다. 예약은
+ * 트랜잭션이 커밋되면 확정되고, 롤백되면 반환됩니다. 커밋/롤백 처리 전에 서버가 종료되었거나 확정에 실패한 예약은 hold-timeout 이후 다음
+ * 예약 시 회수됩니다. 이때 임대가 커밋되었는지 알 수 없으므로 사용 개수를 줄이지 않고, hash를 지워 DB의 임대 정보로 다시 만들게 합니다.
+ * <p>
+ * 사용 개수 hash는 처음 사용할 때 DB의 임대 정보로 만들어지고 state-ttl 이후 만료되어 다시 만들어지므로, 지난 날짜와 누적 오차가 주기적으로
+ * 정리됩니다. 만들어질 때마다 새로운 세대(gen) 값을 가지며, 이전 세대의 예약은 반환 시 사용 개수를 변경하지 않습니다.
+ * <p>
+ * DB를 읽은 뒤 hash를 만들기 전에 커밋, 확정된 임대가 빠지지 않도록 확정된 예약은 바로 지우지 않고 확정 시각(Redis 시각)과 함께 hold-timeout
+ * 동안 남겨 둡니다. hash를 만들 때는 DB를 읽기 시작한 시각 이후에 확정된 예약도 함께 셉니다. Redis 장애로 DB 기준 확인(fallback)을 거쳐
+ * 커밋된 임대는 hash에 반영되지 않았으므로, 커밋 이후 hash를 지워 다시 만들게 합니다.
+ */
+@Slf4j
+@Component
+public class OfficeRoomReservation {
+
+  private static final long NOT_INITIALIZED = -1L;
+  private static final long RESERVED = 1L;
+
+  // 기간 내 사용 개수를 반환하는 공통 함수
+  private static final String RELEASE_FUNCTION =
+      "local function release(hold) "
+          + "  local g, s, e = string.match(hold, '([^:]+):(%-?%d+):(%-?%d+)') "
+          + "  if g == redis.call('HGET', KEYS[1], 'gen') then "
+          + "    for d = tonumber(s), tonumber(e) do redis.call('HINCRBY', KEYS[1], d, -1) end "
+          + "  end "
+          + "end ";
+
+  // KEYS : rooms, holds, pending / ARGV : token, startDay, endDay, maxRooms, now, holdExpireAt,
+  // stateTtlSeconds
+  // 만료된 확정 기록은 지우기만 하고, 확정되지 않은 예약이 만료된 경우에만 hash를 다시 만든다.
+  private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+      "local gen = redis.call('HGET', KEYS[1], 'gen') "
+          + "if not gen then return -1 end "
+          + "local expired = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[5]) "
+          + "local rebuild = false "
+          + "for _, t in ipairs(expired) do "
+          + "  local hold = redis.call('HGET', KEYS[2], t) "
+          + "  if hold and string.sub(hold, 1, 2) ~= 'c:' then rebuild = true end "
+          + "  redis.call('HDEL', KEYS[2], t) "
+          + "  redis.call('ZREM', KEYS[3], t) "
+          + "end "
+          + "if rebuild then "
+          + "  redis.call('DEL', KEYS[1]) "
+          + "  return -1 "
+          + "end "
+          + "local s, e, max = tonumber(ARGV[2]), tonumber(ARGV[3]), tonumber(ARGV[4]) "
+          + "for d = s, e do "
+          + "  if tonumber(redis.call('HGET', KEYS[1], d) or '0') >= max then return 0 end "
+          + "end "
+          + "for d = s, e do redis.call('HINCRBY', KEYS[1], d, 1) end "
+          + "redis.call('HSET', KEYS[2], ARGV[1], gen .. ':' .. s .. ':' .. e) "
+          + "redis.call('ZADD', KEYS[3], ARGV[6], ARGV[1]) "
+          + "redis.call('EXPIRE', KEYS[2], ARGV[7]) "
+          + "redis.call('EXPIRE', KEYS[3], ARGV[7]) "
+          + "return 1", Long.class);
+
+  // KEYS : rooms, holds, pending / ARGV : token, expireAt
+  // 예약을 확정 기록(c:확정 시각:시작일:종료일)으로 바꾸어 expireAt까지 남긴다.
+  private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(
+      "local hold = redis.call('HGET', KEYS[2], ARGV[1]) "
+          + "if not hold or string.sub(hold, 1, 2) == 'c:' then return 0 end "
+          + "local time = redis.call('TIME') "
+          + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+          + "local s, e = string.match(hold, '[^:]+:(%-?%d+):(%-?%d+)') "
+          + "redis.call('HSET', KEYS[2], ARGV[1], 'c:' .. now .. ':' .. s .. ':' .. e) "
+          + "redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1]) "
+          + "return 1", Long.class);
+
+  // KEYS : rooms, holds, pending / ARGV : token
+  private static final RedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>(
+      RELEASE_FUNCTION
+          + "local hold = redis.call('HGET', KEYS[2], ARGV[1]) "
+          + "redis.call('ZREM', KEYS[3], ARGV[1]) "
+          + "if not hold or string.sub(hold, 1, 2) == 'c:' then return 0 end "
+          + "release(hold) "
+          + "return redis.call('HDEL', KEYS[2], ARGV[1])", Long.class);
+
+  // KEYS : rooms / ARGV : startDay, endDay
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      RELEASE_FUNCTION
+          + "local gen = redis.call('HGET', KEYS[1], 'gen') "
+          + "if not gen then return 0 end "
+          + "release(gen .. ':' .. ARGV[1] .. ':' .. ARGV[2]) "
+          + "return 1", Long.class);
+
+  // KEYS : rooms, holds, pending / ARGV : gen, stateTtlSeconds, snapshotAt, (startDay, endDay)...
+  // 아직 커밋되지 않은 예약은 DB에 없으므로 새 세대로 옮겨 함께 센다. DB를 읽기 시작한 시각(snapshotAt) 이후에 확정된 예약은 DB
+  // 조회에서 빠졌을 수 있으므로 함께 세고, 그 이전에 확정된 기록은 DB에 포함되어 있으므로 지운다. 커밋과 확정 사이에 DB를 읽은 임대는
+  // 두 번 세어질 수 있지만, 방이 적게 보일 뿐이고 state-ttl 이후 다시 만들어질 때 정리된다.
+  private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+          + "redis.call('HSET', KEYS[1], 'gen', ARGV[1]) "
+          + "for i = 4, #ARGV, 2 do "
+          + "  for d = tonumber(ARGV[i]), tonumber(ARGV[i + 1]) do "
+          + "    redis.call('HINCRBY', KEYS[1], d, 1) "
+          + "  end "
+          + "end "
+          + "local holds = redis.call('HGETALL', KEYS[2]) "
+          + "for i = 1, #holds, 2 do "
+          + "  local hold = holds[i + 1] "
+          + "  if string.sub(hold, 1, 2) == 'c:' then "
+          + "    local at, s, e = string.match(hold, 'c:(%d+):(%-?%d+):(%-?%d+)') "
+          + "    if tonumber(at) >= tonumber(ARGV[3]) then "
+          + "      for d = tonumber(s), tonumber(e) do redis.call('HINCRBY', KEYS[1], d, 1) end "
+          + "    else "
+          + "      redis.call('HDEL', KEYS[2], holds[i]) "
+          + "      redis.call('ZREM', KEYS[3], holds[i]) "
+          + "    end "
+          + "  else "
+          + "    local s, e = string.match(hold, '[^:]+:(%-?%d+):(%-?%d+)') "
+          + "    for d = tonumber(s), tonumber(e) do redis.call('HINCRBY', KEYS[1], d, 1) end "
+          + "    redis.call('HSET', KEYS[2], holds[i], ARGV[1] .. ':' .. s .. ':' .. e) "
+          + "  end "
+          + "end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+          + "return 1", Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final LeaseRepository leaseRepository;
+  private final Duration holdTimeout;
+  private final Duration stateTtl;
+  // 커밋 이후 hash를 지우지 못한 오피스. 다음 예약, 반환 전에 다시 지운다.
+  private final Set<Long> staleOffices = ConcurrentHashMap.newKeySet();
+
+  public OfficeRoomReservation(StringRedisTemplate redisTemplate,
+      LeaseRepository leaseRepository,
+      @Value("${lease.reservation.hold-timeout:30s}") Duration holdTimeout,
+      @Value("${lease.reservation.state-ttl:1d}") Duration stateTtl) {
+    this.redisTemplate = redisTemplate;
+    this.leaseRepository = leaseRepository;
+    this.holdTimeout = holdTimeout;
+    this.stateTtl = stateTtl;
+  }
+
+  /**
+   * 기간(startDate ~ endDate) 동안 방 하나를 예약합니다. 현재 트랜잭션이 커밋되면 예약이 확정되고, 롤백되면 반환됩니다.
+   *
+   * @throws CustomException NO_ROOMS_AVAILABLE_FOR_LEASE : 기간 중 남은 방이 없는 날이 있는 경우
+   */
+  public void reserve(Long officeId, LocalDate startDate, LocalDate endDate, int maxRoomCount) {
+    long startDay = Math.max(startDate.toEpochDay(), LocalDate.now().toEpochDay());
+    long endDay = endDate.toEpochDay();
+
+    if (startDay > endDay) {
+      return;
+    }
+
+    evictStale();
+
+    String token = UUID.randomUUID().toString();
+    long now = System.currentTimeMillis();
+
+    Long result = executeReserve(officeId, token, startDay, endDay, maxRoomCount, now);
+
+    if (result != null && result == NOT_INITIALIZED) {
+      initialize(officeId);
+      result = executeReserve(officeId, token, startDay, endDay, maxRoomCount, now);
+    }
+
+    if (result == null || result != RESERVED) {
+      throw new CustomException(NO_ROOMS_AVAILABLE_FOR_LEASE);
+    }
+
+    afterCompletion(officeId, token);
+  }
+
+  // 확정된 임대가 거절, 취소되어 방이 반환된 경우 커밋 이후 사용 개수를 줄인다.
+  public void release(Long officeId, LocalDate startDate, LocalDate endDate) {
+    long startDay = Math.max(startDate.toEpochDay(), LocalDate.now().toEpochDay());
+    long endDay = endDate.toEpochDay();
+
+    if (startDay > endDay) {
+      return;
+    }
+
+    evictStale();
+
+    Runnable release = () -> redisTemplate.execute(RELEASE_SCRIPT, List.of(roomsKey(officeId)),
+        String.valueOf(startDay), String.valueOf(endDay));
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      release.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runQuietly(release, officeId);
+      }
+    });
+  }
+
+  // Redis를 거치지 않고 커밋된 임대는 사용 개수에 반영되지 않았으므로, 커밋 이후 hash를 지워 DB 기준으로 다시 만들게 한다.
+  public void invalidate(Long officeId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(officeId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evict(officeId);
+      }
+    });
+  }
+
+  private void evict(Long officeId) {
+    try {
+      redisTemplate.delete(roomsKey(officeId));
+    } catch (RuntimeException e) {
+      staleOffices.add(officeId);
+      log.warn("room reservation eviction failed. officeId : {}", officeId, e);
+    }
+  }
+
+  private void evictStale() {
+    for (Long officeId : staleOffices) {
+      redisTemplate.delete(roomsKey(officeId));
+      staleOffices.remove(officeId);
+    }
+  }
+
+  private Long executeReserve(Long officeId, String token, long startDay, long endDay,
+      int maxRoomCount, long now) {
+
+    return redisTemplate.execute(RESERVE_SCRIPT, keys(officeId), token,
+        String.valueOf(startDay), String.valueOf(endDay), String.valueOf(maxRoomCount),
+        String.valueOf(now), String.valueOf(now + holdTimeout.toMillis()),
+        String.valueOf(stateTtl.toSeconds()));
+  }
+
+  // 오늘 이후까지 이어지는 임대로 날짜별 사용 개수를 만든다. 이미 다른 요청이 만들었다면 무시된다.
+  private void initialize(Long officeId) {
+    // DB 조회 이후에 확정된 예약을 구분하기 위해 조회 전의 Redis 시각을 기록한다.
+    Long snapshotAt = redisTemplate.execute(
+        (RedisCallback<Long>) connection -> connection.time());
+    LocalDate today = LocalDate.now();
+    List<Lease> leases = leaseRepository.findOccupyingLeases(officeId,
+        OfficeOccupancyCache.OCCUPYING_STATUS, today);
+
+    List<String> args = new ArrayList<>();
+    args.add(UUID.randomUUID().toString());
+    args.add(String.valueOf(stateTtl.toSeconds()));
+    args.add(String.valueOf(snapshotAt));
+
+    for (Lease lease : leases) {
+      args.add(String.valueOf(Math.max(lease.getLeaseStartDate().toEpochDay(),
+          today.toEpochDay())));
+      args.add(String.valueOf(lease.getLeaseEndDate().toEpochDay()));
+    }
+
+    redisTemplate.execute(INIT_SCRIPT, keys(officeId), args.toArray());
+  }
+
+  private void afterCompletion(Long officeId, String token) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      confirm(officeId, token);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          runQuietly(() -> confirm(officeId, token), officeId);
+        } else {
+          runQuietly(() -> redisTemplate.execute(CANCEL_SCRIPT, keys(officeId), token), officeId);
+        }
+      }
+    });
+  }
+
+  private void confirm(Long officeId, String token) {
+    redisTemplate.execute(CONFIRM_SCRIPT, keys(officeId), token,
+        String.valueOf(System.currentTimeMillis() + holdTimeout.toMillis()));
+  }
+
+  // 커밋 이후의 실패는 요청에 영향을 주지 않는다. 확정되지 않은 예약은 hold-timeout 이후 회수되며, 이때 사용 개수는 DB 기준으로 다시
+  // 만들어지므로 커밋된 임대의 방이 반환되지 않는다.
+  private void runQuietly(Runnable action, Long officeId) {
+    try {
+      action.run();
+    } catch (RuntimeException e) {
+      log.warn("room reservation update failed. officeId : {}", officeId, e);
+    }
+  }
+
+  // Redis Cluster에서도 같은 슬롯에 위치하도록 오피스 id를 hash tag로 사용
+  private List<String> keys(Long officeId) {
+    return List.of(roomsKey(officeId), "lease:room:{" + officeId + "}:holds",
+        "lease:room:{" + officeId + "}:pending");
+  }
+
+  private String roomsKey(Long officeId) {
+    return "lease:room:{" + officeId + "}";
+  }
+}
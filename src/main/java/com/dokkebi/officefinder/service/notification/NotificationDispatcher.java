@@ -0,0 +1,152 @@
+package com.dokkebi.officefinder.service.notification;
+
+import com.dokkebi.officefinder.exception.CustomException;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
+import com.dokkebi.officefinder.service.notification.dto.NotificationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 트랜잭션에서 발행된 알림을 모아서 저장하고 SSE로 전송하는 디스패처입니다.
+ * <p>
+ * 알림은 크기가 제한된 큐에 쌓이고, 전용 스레드가 batch-size 단위로 꺼내 하나의 트랜잭션으로 저장한 뒤 전송합니다. 큐가 가득 차면 알림을 발행한
+ * 스레드에서 직접 처리하여 생산 속도를 늦춥니다(backpressure).
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+  private final NotificationService notificationService;
+  private final BlockingQueue<NotificationEvent> queue;
+  private final int batchSize;
+  private final ThreadPoolTaskExecutor executor;
+
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private final ReentrantLock processLock = new ReentrantLock();
+
+  private final Counter sentCounter;
+  private final Counter failedCounter;
+  private final Counter backpressureCounter;
+
+  public NotificationDispatcher(NotificationService notificationService,
+      MeterRegistry meterRegistry,
+      @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity,
+      @Value("${notification.dispatch.batch-size:100}") int batchSize) {
+    this.notificationService = notificationService;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+
+    // 한 번에 하나의 drain 작업만 실행되므로 스레드 하나로 충분하다.
+    this.executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.setThreadNamePrefix("notification-dispatch-");
+    executor.initialize();
+
+    meterRegistry.gaugeCollectionSize("notification.dispatch.queue.size", Tags.empty(), queue);
+    this.sentCounter = meterRegistry.counter("notification.dispatch.sent");
+    this.failedCounter = meterRegistry.counter("notification.dispatch.failed");
+    this.backpressureCounter = meterRegistry.counter("notification.dispatch.backpressure");
+  }
+
+  // 트랜잭션 밖에서 발행된 알림은 바로 처리 대상이 된다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void dispatch(NotificationEvent event) {
+    if (!queue.offer(event)) {
+      backpressureCounter.increment();
+      process(List.of(event));
+      return;
+    }
+
+    scheduleDrain();
+  }
+
+  // 큐에 남은 알림을 모두 처리한다. 처리 중인 배치가 있다면 끝날 때까지 기다린다.
+  public void flush() {
+    drainQueue();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flush();
+    executor.shutdown();
+  }
+
+  private void scheduleDrain() {
+    if (!draining.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      executor.execute(this::drainInBackground);
+    } catch (TaskRejectedException e) {
+      draining.set(false);
+      drainQueue();
+    }
+  }
+
+  private void drainInBackground() {
+    try {
+      drainQueue();
+    } finally {
+      draining.set(false);
+
+      // 상태를 되돌리기 직전에 들어온 알림이 남아있을 수 있다.
+      if (!queue.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+
+  private void drainQueue() {
+    List<NotificationEvent> batch = new ArrayList<>(batchSize);
+
+    processLock.lock();
+    try {
+      while (queue.drainTo(batch, batchSize) > 0) {
+        process(batch);
+        batch.clear();
+      }
+    } finally {
+      processLock.unlock();
+    }
+  }
+
+  private void process(List<NotificationEvent> events) {
+    List<NotificationResponseDto> notifications;
+
+    try {
+      notifications = notificationService.saveAll(events);
+    } catch (RuntimeException e) {
+      failedCounter.increment(events.size());
+      log.error("notification save failed. count : {}", events.size(), e);
+      return;
+    }
+
+    for (int i = 0; i < events.size(); i++) {
+      try {
+        notificationService.push(events.get(i).getEmail(), notifications.get(i));
+      } catch (CustomException e) {
+        log.warn("sse notification send failed. email : {}", events.get(i).getEmail());
+      }
+    }
+
+    sentCounter.increment(events.size());
+  }
+}
@@ -15,21 +15,31 @@ import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
 import com.dokkebi.officefinder.repository.notification.EmitterRepository;
 import com.dokkebi.officefinder.repository.notification.CustomerNotificationRepository;
 import com.dokkebi.officefinder.repository.notification.OfficeOwnerNotificationRepository;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent;
+import com.dokkebi.officefinder.service.notification.dto.NotificationEvent.Recipient;
 import com.dokkebi.officefinder.service.notification.dto.NotificationResponseDto;
+import com.dokkebi.officefinder.service.notification.dto.SseEventMessage;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class NotificationService {
+public class NotificationService implements MessageListener {
 
   private final OfficeOwnerRepository officeOwnerRepository;
 
@@ -43,6 +53,10 @@ public class NotificationService {
 
   private final OfficeOwnerNotificationRepository officeOwnerNotificationRepository;
 
+  private final SseMessageBroker sseMessageBroker;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   // 회원의 email을 바탕으로 SSE 연결을 설정
   // LastEvenId가 포함된 경우, 연결이 끊긴 이후의 Event들을 전송
   public SseEmitter subscribe(String email, String lastEventId) {
@@ -58,41 +72,84 @@ public class NotificationService {
     }
 
     emitter.onCompletion(() -> {
-      emitterRepository.deleteById(emitterId);
+      removeEmitter(email, emitterId);
     });
     emitter.onTimeout(() -> {
-      emitterRepository.deleteById(emitterId);
+      removeEmitter(email, emitterId);
     });
     emitter.onError((e) -> {
-      emitterRepository.deleteById(emitterId);
+      removeEmitter(email, emitterId);
     });
 
+    // 다른 노드에서 발생한 이 회원의 알림도 받을 수 있도록 회원 채널 구독
+    sseMessageBroker.subscribe(email, this);
+
     // 더미 데이터 전송
-    sendNotification(emitter, emitterId, "연결이 성공하였습니다. [email :" + email + "]");
+    sendNotification(emitter, email, emitterId, emitterId,
+        "연결이 성공하였습니다. [email :" + email + "]");
 
-    // 연결이 끊긴 사이에 전송된 알림들 전송
+    // 연결이 끊긴 사이에 전송된 알림들을 전송된 순서대로 다시 전송
     if (!lastEventId.isEmpty()) {
-      Map<String, Object> events = emitterRepository.findAllEventCacheStartsWithEmail(email);
-      events.entrySet().stream()
-          .filter(e -> lastEventId.compareTo(e.getKey()) < 0)
-          .forEach(e -> sendNotification(emitter, e.getKey(), e.getValue()));
+      emitterRepository.findAllEventCacheAfter(email, lastEventId)
+          .forEach((eventId, event) -> sendNotification(emitter, email, emitterId, eventId, event));
     }
 
     return emitter;
   }
 
-  public void sendToCustomer(Customer customer, NotificationType notificationType, String title,
-      String content) {
-    CustomerNotification notification = customerNotificationRepository.save(
-        createCustomerNotification(customer, notificationType, title, content));
-    sendNotificationToEmail(customer.getEmail(), NotificationResponseDto.from(notification));
+  // 알림 저장, 전송이 호출한 트랜잭션의 지연, 실패 요인이 되지 않도록 이벤트로 기록하고
+  // 커밋 이후 NotificationDispatcher가 모아서 처리한다.
+  public void publishToCustomer(Customer customer, NotificationType notificationType,
+      String title, String content) {
+    eventPublisher.publishEvent(
+        NotificationEvent.toCustomer(customer, notificationType, title, content));
+  }
+
+  public void publishToOwner(OfficeOwner officeOwner, NotificationType notificationType,
+      String title, String content) {
+    eventPublisher.publishEvent(
+        NotificationEvent.toOwner(officeOwner, notificationType, title, content));
+  }
+
+  // 커밋 이후(afterCommit)에 호출되므로 기존 트랜잭션에 참여하지 않도록 새 트랜잭션에서 저장
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<NotificationResponseDto> saveAll(List<NotificationEvent> events) {
+    List<CustomerNotification> customerNotifications = new ArrayList<>();
+    List<OfficeOwnerNotification> ownerNotifications = new ArrayList<>();
+    List<Object> notifications = new ArrayList<>();
+
+    for (NotificationEvent event : events) {
+      if (event.getRecipient() == Recipient.CUSTOMER) {
+        CustomerNotification notification = createCustomerNotification(
+            customerRepository.getReferenceById(event.getRecipientId()),
+            event.getNotificationType(), event.getTitle(), event.getContent());
+        customerNotifications.add(notification);
+        notifications.add(notification);
+      } else {
+        OfficeOwnerNotification notification = createOwnerNotification(
+            officeOwnerRepository.getReferenceById(event.getRecipientId()),
+            event.getNotificationType(), event.getTitle(), event.getContent());
+        ownerNotifications.add(notification);
+        notifications.add(notification);
+      }
+    }
+
+    customerNotificationRepository.saveAll(customerNotifications);
+    officeOwnerNotificationRepository.saveAll(ownerNotifications);
+
+    List<NotificationResponseDto> result = new ArrayList<>();
+
+    for (Object notification : notifications) {
+      result.add(notification instanceof CustomerNotification
+          ? NotificationResponseDto.from((CustomerNotification) notification)
+          : NotificationResponseDto.from((OfficeOwnerNotification) notification));
+    }
+
+    return result;
   }
 
-  public void sendToOwner(OfficeOwner officeOwner, NotificationType notificationType, String title,
-      String content) {
-    OfficeOwnerNotification notification = officeOwnerNotificationRepository.save(
-        createOwnerNotification(officeOwner, notificationType, title, content));
-    sendNotificationToEmail(officeOwner.getEmail(), NotificationResponseDto.from(notification));
+  public void push(String email, Object notificationData) {
+    sendNotificationToEmail(email, notificationData);
   }
 
   public Page<NotificationResponseDto> getNotificationByOwner(String email, Pageable pageable){
@@ -117,42 +174,72 @@ public class NotificationService {
     return notifications.map(NotificationResponseDto::from);
   }
 
+  // 다른 노드(또는 현재 노드)에서 발행한 알림을 현재 노드에 연결된 클라이언트에게 전송
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    SseEventMessage event = sseMessageBroker.read(message);
+
+    // 재연결이 이 노드로 들어와도 재전송할 수 있도록 캐시에 기록
+    emitterRepository.saveEventCache(event.getEventId(), event.getData());
+
+    try {
+      sendToLocalEmitters(event.getEmail(), event.getEventId(), event.getData());
+    } catch (CustomException e) {
+      log.warn("sse notification send failed. email : {}", event.getEmail());
+    }
+  }
+
+  // 연결이 없는 회원도 재연결 시 받을 수 있도록 이벤트는 항상 캐시에 저장
+  // 회원의 연결이 어느 노드에 있는지 모르므로 회원 채널로 발행하고, 발행에 실패하면 현재 노드의 연결로만 전송
   private void sendNotificationToEmail(String email, Object notificationData) {
+    String eventId = emitterRepository.saveEvent(email, notificationData);
+
+    if (!sseMessageBroker.publish(new SseEventMessage(email, eventId, notificationData))) {
+      sendToLocalEmitters(email, eventId, notificationData);
+    }
+  }
+
+  private void sendToLocalEmitters(String email, String eventId, Object data) {
     Map<String, SseEmitter> sseEmitters = emitterRepository.findAllEmitterStartsWithEmail(email);
 
-    sseEmitters.forEach((key, emitter) -> {
-      emitterRepository.saveEventCache(key, notificationData);
-      sendToClient(emitter, key, notificationData);
-    });
+    sseEmitters.forEach((emitterId, emitter) ->
+        sendToClient(emitter, email, emitterId, eventId, data));
   }
 
-  private void sendToClient(SseEmitter emitter, String emitterId, Object data) {
+  private void sendToClient(SseEmitter emitter, String email, String emitterId, String eventId,
+      Object data) {
     try {
       emitter.send(SseEmitter.event()
-          .id(emitterId)
+          .id(eventId)
           .data(data, MediaType.APPLICATION_JSON));
 
       emitter.complete();
-      emitterRepository.deleteById(emitterId);
+      removeEmitter(email, emitterId);
     } catch (IOException exception) {
       exception.printStackTrace();
-      emitterRepository.deleteById(emitterId);
+      removeEmitter(email, emitterId);
       emitter.completeWithError(exception);
       throw new CustomException(CustomErrorCode.SSE_SEND_NOTIFICATION_FAIL);
     }
   }
 
-  private void sendNotification(SseEmitter emitter, String emitterId, Object data) {
+  private void sendNotification(SseEmitter emitter, String email, String emitterId,
+      String eventId, Object data) {
     try {
       emitter.send(SseEmitter.event()
-          .id(emitterId)
+          .id(eventId)
           .data(data, MediaType.APPLICATION_JSON));
 
     } catch (IOException exception) {
       exception.printStackTrace();
-      emitterRepository.deleteById(emitterId);
+      removeEmitter(email, emitterId);
       emitter.completeWithError(exception);
       throw new CustomException(CustomErrorCode.SSE_SEND_NOTIFICATION_FAIL);
     }
   }
+
+  private void removeEmitter(String email, String emitterId) {
+    emitterRepository.deleteById(emitterId);
+    sseMessageBroker.unsubscribeIfIdle(email);
+  }
 }
@@ -0,0 +1,82 @@
+package com.dokkebi.officefinder.service.notification;
+
+import com.dokkebi.officefinder.repository.notification.EmitterRepository;
+import com.dokkebi.officefinder.service.notification.dto.SseEventMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드에 나뉘어 연결된 SSE 클라이언트에게 알림을 전달하기 위한 Redis pub/sub 중계기입니다.
+ * <p>
+ * 회원마다 별도의 채널을 사용하며, 각 노드는 자신이 SSE 연결을 가지고 있는 회원의 채널만 구독합니다. 따라서 알림은 해당 회원이 연결된 노드에만
+ * 전달됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseMessageBroker {
+
+  private static final String CHANNEL_PREFIX = "sse:notification:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final EmitterRepository emitterRepository;
+  private final ObjectMapper objectMapper;
+
+  // 현재 노드가 구독 중인 회원 email -> 리스너
+  private final Map<String, MessageListener> subscriptions = new ConcurrentHashMap<>();
+
+  public void subscribe(String email, MessageListener listener) {
+    subscriptions.computeIfAbsent(email, key -> {
+      redisMessageListenerContainer.addMessageListener(listener, topicOf(key));
+      return listener;
+    });
+  }
+
+  // 현재 노드에 해당 회원의 SSE 연결이 남아있지 않은 경우에만 구독 해제
+  public void unsubscribeIfIdle(String email) {
+    subscriptions.computeIfPresent(email, (key, listener) -> {
+      if (!emitterRepository.findAllEmitterStartsWithEmail(key).isEmpty()) {
+        return listener;
+      }
+
+      redisMessageListenerContainer.removeMessageListener(listener, topicOf(key));
+      return null;
+    });
+  }
+
+  // 발행에 실패하면 false를 반환하며, 호출한 쪽에서 현재 노드의 연결로만 전송한다.
+  public boolean publish(SseEventMessage message) {
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + message.getEmail(),
+          objectMapper.writeValueAsString(message));
+      return true;
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("sse notification publish failed. email : {}", message.getEmail(), e);
+      return false;
+    }
+  }
+
+  public SseEventMessage read(Message message) {
+    try {
+      return objectMapper.readValue(message.getBody(), SseEventMessage.class);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("invalid sse notification message", e);
+    }
+  }
+
+  private ChannelTopic topicOf(String email) {
+    return new ChannelTopic(CHANNEL_PREFIX + email);
+  }
+}
@@ -0,0 +1,42 @@
+package com.dokkebi.officefinder.service.notification.dto;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.type.NotificationType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트랜잭션 커밋 이후 저장, 전송될 알림
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NotificationEvent {
+
+  public enum Recipient {
+    CUSTOMER, OFFICE_OWNER
+  }
+
+  private final Recipient recipient;
+  private final Long recipientId;
+  private final String email;
+  private final NotificationType notificationType;
+  private final String title;
+  private final String content;
+
+  public static NotificationEvent toCustomer(Customer customer, NotificationType notificationType,
+      String title, String content) {
+    return toCustomer(customer.getId(), customer.getEmail(), notificationType, title, content);
+  }
+
+  public static NotificationEvent toCustomer(Long customerId, String email,
+      NotificationType notificationType, String title, String content) {
+    return new NotificationEvent(Recipient.CUSTOMER, customerId, email, notificationType, title,
+        content);
+  }
+
+  public static NotificationEvent toOwner(OfficeOwner officeOwner,
+      NotificationType notificationType, String title, String content) {
+    return new NotificationEvent(Recipient.OFFICE_OWNER, officeOwner.getId(),
+        officeOwner.getEmail(), notificationType, title, content);
+  }
+}
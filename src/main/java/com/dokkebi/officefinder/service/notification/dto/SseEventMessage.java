@@ -0,0 +1,16 @@
+package com.dokkebi.officefinder.service.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 노드 간 알림 전달에 사용하는 메시지, data는 클라이언트에 그대로 전송되는 JSON 값
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseEventMessage {
+
+  private String email;
+  private String eventId;
+  private Object data;
+}
@@ -0,0 +1,82 @@
+package com.dokkebi.officefinder.service.office;
+
+import com.dokkebi.officefinder.config.cache.CacheConfig;
+import com.dokkebi.officefinder.controller.office.dto.OfficeDetailResponseDto;
+import com.dokkebi.officefinder.controller.review.dto.ReviewControllerDto.ReviewDto;
+import com.dokkebi.officefinder.entity.office.Office;
+import com.dokkebi.officefinder.entity.office.OfficePicture;
+import com.dokkebi.officefinder.entity.review.Review;
+import com.dokkebi.officefinder.repository.ReviewRepository;
+import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache.CustomerProfiles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 오피스 상세 화면 응답(오피스 정보, 사진, 최신 리뷰 2개와 작성자)을 조합하고 캐시하는 서비스입니다. 오피스 정보나 리뷰가 변경되면 {@link #evict(Long)}를
+ * 호출해야 합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OfficeDetailService {
+
+  private static final int MAX_PICTURE_COUNT = 5;
+
+  private final OfficeSearchService officeSearchService;
+  private final OfficePictureRepository officePictureRepository;
+  private final ReviewRepository reviewRepository;
+  private final CustomerProfileCache customerProfileCache;
+  private final Cache officeDetailCache;
+
+  public OfficeDetailService(OfficeSearchService officeSearchService,
+      OfficePictureRepository officePictureRepository, ReviewRepository reviewRepository,
+      CustomerProfileCache customerProfileCache,
+      @Qualifier("twoLevelCacheManager") CacheManager cacheManager) {
+    this.officeSearchService = officeSearchService;
+    this.officePictureRepository = officePictureRepository;
+    this.reviewRepository = reviewRepository;
+    this.customerProfileCache = customerProfileCache;
+    this.officeDetailCache = cacheManager.getCache(CacheConfig.OFFICE_DETAIL);
+  }
+
+  public OfficeDetailResponseDto getOfficeDetail(Long officeId) {
+    return officeDetailCache.get(officeId, () -> createOfficeDetail(officeId));
+  }
+
+  // 트랜잭션 안에서 호출되면 커밋 이후에 제거된다.
+  public void evict(Long officeId) {
+    officeDetailCache.evict(officeId);
+  }
+
+  private OfficeDetailResponseDto createOfficeDetail(Long officeId) {
+    Office officeInfo = officeSearchService.getOfficeInfo(officeId);
+    List<OfficePicture> officeImages = officePictureRepository.findByOfficeId(officeId);
+
+    List<String> imagePath = new ArrayList<>();
+
+    for (OfficePicture element : officeImages) {
+      imagePath.add(element.getFileName());
+    }
+
+    while (imagePath.size() < MAX_PICTURE_COUNT) {
+      imagePath.add("None");
+    }
+
+    List<Review> reviews = reviewRepository.findTop2ByOfficeIdOrderByCreatedAtDesc(officeId);
+    CustomerProfiles customers = customerProfileCache.load(
+        reviews.stream().map(Review::getCustomerId).collect(Collectors.toList()));
+
+    List<ReviewDto> reviewDtoList = reviews.stream()
+        .map(content -> ReviewDto.from(content, customers.get(content.getCustomerId())))
+        .collect(Collectors.toList());
+
+    return OfficeDetailResponseDto.from(officeInfo, reviewDtoList, imagePath);
+  }
+}
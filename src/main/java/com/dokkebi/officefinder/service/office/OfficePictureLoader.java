@@ -0,0 +1,53 @@
+package com.dokkebi.officefinder.service.office;
+
+import com.dokkebi.officefinder.entity.office.OfficePicture;
+import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 목록 조회 시 오피스 사진을 한 번의 IN 쿼리로 읽어오는 로더입니다. 행마다 사진을 조회하던 N+1 문제를 막기 위해 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OfficePictureLoader {
+
+  private final OfficePictureRepository officePictureRepository;
+
+  public OfficePictures load(Collection<Long> officeIds) {
+    Set<Long> distinctIds = new LinkedHashSet<>(officeIds);
+    Map<Long, List<OfficePicture>> pictures = new HashMap<>();
+
+    if (!distinctIds.isEmpty()) {
+      pictures.putAll(officePictureRepository.findByOfficeIdIn(distinctIds).stream()
+          .collect(Collectors.groupingBy(picture -> picture.getOffice().getId())));
+    }
+
+    // 사진이 없는 오피스도 다시 조회하지 않도록 빈 리스트로 기록
+    distinctIds.forEach(officeId -> pictures.putIfAbsent(officeId, List.of()));
+
+    return new OfficePictures(pictures);
+  }
+
+  /**
+   * 하나의 요청 동안 사용하는 오피스 id - 사진 목록 메모입니다. 미리 읽지 않은 오피스를 요청하면 한 번만 조회한 뒤 기록합니다.
+   */
+  @RequiredArgsConstructor
+  public class OfficePictures {
+
+    private final Map<Long, List<OfficePicture>> pictures;
+
+    public List<OfficePicture> get(Long officeId) {
+      return pictures.computeIfAbsent(officeId, officePictureRepository::findByOfficeId);
+    }
+  }
+}
@@ -6,10 +6,14 @@ import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
 import com.dokkebi.officefinder.entity.office.Office;
 import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
+import com.dokkebi.officefinder.service.office.index.OfficeAmenityIndex;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class OfficeSearchService {
 
   private final OfficeRepository officeRepository;
+  private final OfficeAmenityIndex officeAmenityIndex;
 
   public Office getOfficeInfo(Long officeId) {
     return officeRepository.findByOfficeId(officeId)
@@ -28,7 +33,44 @@ public class OfficeSearchService {
   public Page<Office> searchOfficeByDetailCondition(OfficeSearchCond cond,
       Pageable pageable) {
 
-    return officeRepository.findBySearchCond(cond, pageable);
+    // 보유 시설 조건은 메모리 인덱스로 먼저 후보를 좁히고, 인덱스를 쓸 수 없으면 DB 조건 검색을 수행
+    Optional<List<Long>> candidates = officeAmenityIndex.search(cond);
+
+    if (candidates.isEmpty()) {
+      return officeRepository.findBySearchCond(cond, pageable);
+    }
+
+    if (candidates.get().isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    return officeRepository.findBySearchCondInIds(cond, candidates.get(), pageable);
+  }
+
+  // 전체 개수 없이 다음 페이지 여부만 필요한 경우(무한 스크롤) count 쿼리를 생략한다.
+  public Slice<Office> searchOfficeSliceByDetailCondition(OfficeSearchCond cond,
+      Pageable pageable) {
+
+    Optional<List<Long>> candidates = officeAmenityIndex.search(cond);
+
+    if (candidates.isPresent() && candidates.get().isEmpty()) {
+      return new SliceImpl<>(List.of(), pageable, false);
+    }
+
+    return officeRepository.findSliceBySearchCond(cond, candidates.orElse(null), pageable);
+  }
+
+  public Slice<Office> searchOfficeByDetailConditionAfter(OfficeSearchCond cond,
+      Long lastOfficeId, int size) {
+
+    Optional<List<Long>> candidates = officeAmenityIndex.search(cond);
+
+    if (candidates.isPresent() && candidates.get().isEmpty()) {
+      return new SliceImpl<>(List.of());
+    }
+
+    return officeRepository.findBySearchCondAfter(cond, candidates.orElse(null), lastOfficeId,
+        size);
   }
 
   public Page<Office> getAllOffices(String ownerEmail, Pageable pageable) {
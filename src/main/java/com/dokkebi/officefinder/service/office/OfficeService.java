@@ -13,12 +13,14 @@ import com.dokkebi.officefinder.entity.office.OfficeLocation;
 import com.dokkebi.officefinder.entity.office.OfficePicture;
 import com.dokkebi.officefinder.exception.CustomException;
 import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
+import com.dokkebi.officefinder.repository.count.PageCountCache;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
 import com.dokkebi.officefinder.repository.office.condition.OfficeConditionRepository;
 import com.dokkebi.officefinder.repository.office.location.OfficeLocationRepository;
 import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
 import com.dokkebi.officefinder.service.office.dto.OfficeConditionDto;
 import com.dokkebi.officefinder.service.office.dto.OfficeLocationDto;
+import com.dokkebi.officefinder.service.office.index.OfficeAmenityIndex;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,9 @@ public class OfficeService {
   private final OfficeConditionRepository officeConditionRepository;
   private final OfficePictureRepository officePictureRepository;
   private final OfficeOwnerRepository ownerRepository;
+  private final OfficeAmenityIndex officeAmenityIndex;
+  private final PageCountCache pageCountCache;
+  private final OfficeDetailService officeDetailService;
 
   public Long createOfficeInfo(OfficeCreateRequestDto request, List<String> imageList,
       String ownerEmail) {
@@ -58,6 +63,9 @@ public class OfficeService {
       officePictureRepository.save(OfficePicture.createFromPath(imageUrl, savedOffice));
     }
 
+    officeAmenityIndex.put(savedOffice.getId(), officeCondition);
+    pageCountCache.evictRegion(PageCountCache.OFFICE);
+
     return savedOffice.getId();
   }
 
@@ -81,6 +89,10 @@ public class OfficeService {
       officePictureRepository.save(OfficePicture.createFromPath(imageUrl, office));
     }
 
+    officeAmenityIndex.put(office.getId(), office.getOfficeCondition());
+    pageCountCache.evictRegion(PageCountCache.OFFICE);
+    officeDetailService.evict(office.getId());
+
     return office.getId();
   }
 
@@ -89,6 +101,9 @@ public class OfficeService {
         .orElseThrow(() -> new CustomException(OFFICE_NOT_EXISTS));
 
     officeRepository.delete(office);
+    officeAmenityIndex.remove(officeId);
+    pageCountCache.evictRegion(PageCountCache.OFFICE);
+    officeDetailService.evict(officeId);
   }
 
   private void validateCorrectOwner(String ownerEmail, Office office) {
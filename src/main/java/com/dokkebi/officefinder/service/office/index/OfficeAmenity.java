@@ -0,0 +1,37 @@
+package com.dokkebi.officefinder.service.office.index;
+
+import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
+import com.dokkebi.officefinder.entity.office.OfficeCondition;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+오피스 보유 시설 목록
+각 시설마다 엔티티에서 보유 여부를 꺼내는 방법과 검색 조건에서 요청 값을 꺼내는 방법을 함께 가진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OfficeAmenity {
+  AIR_CONDITION(OfficeCondition::isAirCondition, OfficeSearchCond::getHaveAirCondition),
+  HEATER(OfficeCondition::isHeaterCondition, OfficeSearchCond::getHaveHeater),
+  CAFE(OfficeCondition::isCafe, OfficeSearchCond::getHaveCafe),
+  PRINTER(OfficeCondition::isPrinter, OfficeSearchCond::getHavePrinter),
+  PACKAGE_SEND_SERVICE(OfficeCondition::isPackageSendService,
+      OfficeSearchCond::getPackageSendServiceAvailable),
+  DOOR_LOCK(OfficeCondition::isDoorLock, OfficeSearchCond::getHaveDoorLock),
+  FAX(OfficeCondition::isFax, OfficeSearchCond::getFaxServiceAvailable),
+  PUBLIC_KITCHEN(OfficeCondition::isPublicKitchen, OfficeSearchCond::getHavePublicKitchen),
+  PUBLIC_LOUNGE(OfficeCondition::isPublicLounge, OfficeSearchCond::getHavePublicLounge),
+  PRIVATE_LOCKER(OfficeCondition::isPrivateLocker, OfficeSearchCond::getHavePrivateLocker),
+  TV_PROJECTOR(OfficeCondition::isTvProjector, OfficeSearchCond::getHaveTvProjector),
+  WHITEBOARD(OfficeCondition::isWhiteboard, OfficeSearchCond::getHaveWhiteBoard),
+  WIFI(OfficeCondition::isWifi, OfficeSearchCond::getHaveWifi),
+  SHOWER_BOOTH(OfficeCondition::isShowerBooth, OfficeSearchCond::getHaveShowerBooth),
+  STORAGE(OfficeCondition::isStorage, OfficeSearchCond::getHaveStorage),
+  PARK_AREA(OfficeCondition::isParkArea, OfficeSearchCond::getHaveParkArea);
+
+  private final Predicate<OfficeCondition> provided;
+  private final Function<OfficeSearchCond, Boolean> requested;
+}
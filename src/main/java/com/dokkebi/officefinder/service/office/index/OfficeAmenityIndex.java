@@ -0,0 +1,257 @@
+package com.dokkebi.officefinder.service.office.index;
+
+import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
+import com.dokkebi.officefinder.entity.office.OfficeCondition;
+import com.dokkebi.officefinder.repository.office.condition.OfficeConditionRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 오피스 보유 시설 검색용 메모리 인덱스입니다. 시설마다 오피스 id를 비트 위치로 하는 BitSet을 두고, 검색 조건의 시설 항목들을 비트 연산(AND, AND
+ * NOT)으로 계산하여 조건을 만족하는 오피스 id 목록을 반환합니다.
+ * <p>
+ * 애플리케이션 시작 시 DB로부터 재구성되며, 이후에는 OfficeService의 등록/수정/삭제가 커밋된 뒤 갱신됩니다. 변경된 오피스 id는 Redis
+ * 채널로 다른 노드에 전달되고, 메시지를 받은 노드는 해당 오피스의 시설 정보를 DB에서 다시 읽어 자신의 인덱스에 반영합니다. 유실된 메시지에
+ * 대비하여 ScheduledService가 주기적으로 인덱스를 다시 구성합니다.
+ */
+@Slf4j
+@Component
+public class OfficeAmenityIndex implements MessageListener {
+
+  // 후보가 이 수를 넘으면 IN 절이 지나치게 커지므로 DB 조건 검색으로 위임한다.
+  private static final int MAX_CANDIDATE_SIZE = 1000;
+
+  private static final String CHANNEL = "office:amenity:invalidation";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final OfficeConditionRepository officeConditionRepository;
+  private final StringRedisTemplate redisTemplate;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private Map<OfficeAmenity, BitSet> amenityBitmaps = createBitmaps();
+  private BitSet officeBitmap = new BitSet();
+
+  private volatile boolean ready = false;
+
+  public OfficeAmenityIndex(OfficeConditionRepository officeConditionRepository,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer) {
+    this.officeConditionRepository = officeConditionRepository;
+    this.redisTemplate = redisTemplate;
+
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    List<OfficeCondition> conditions = officeConditionRepository.findAllWithOffice();
+
+    Map<OfficeAmenity, BitSet> newAmenityBitmaps = createBitmaps();
+    BitSet newOfficeBitmap = new BitSet();
+
+    for (OfficeCondition condition : conditions) {
+      mark(newAmenityBitmaps, newOfficeBitmap, toIndex(condition.getOffice().getId()),
+          provided(condition));
+    }
+
+    lock.writeLock().lock();
+    try {
+      amenityBitmaps = newAmenityBitmaps;
+      officeBitmap = newOfficeBitmap;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    log.info("office amenity index rebuilt. office count : {}", newOfficeBitmap.cardinality());
+  }
+
+  // 트랜잭션이 롤백되면 인덱스에 반영하지 않도록 커밋 이후에 반영하고 다른 노드에 알린다.
+  public void put(Long officeId, OfficeCondition condition) {
+    Set<OfficeAmenity> amenities = provided(condition);
+
+    afterCommit(officeId, () -> apply(officeId, amenities));
+  }
+
+  public void remove(Long officeId) {
+    afterCommit(officeId, () -> apply(officeId, null));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+    // 자신이 발행한 메시지는 이미 반영되어 있다.
+    if (body.length != 2 || nodeId.equals(body[0])) {
+      return;
+    }
+
+    Long officeId = Long.valueOf(body[1]);
+
+    try {
+      Set<OfficeAmenity> amenities = officeConditionRepository.findByOfficeId(officeId)
+          .map(OfficeAmenityIndex::provided)
+          .orElse(null);
+
+      apply(officeId, amenities);
+    } catch (RuntimeException e) {
+      // 다시 읽지 못한 오피스가 잘못 검색되지 않도록 다음 재구성 전까지 DB 조건 검색으로 처리한다.
+      ready = false;
+      log.warn("office amenity index refresh failed. officeId : {}", officeId, e);
+    }
+  }
+
+  /**
+   * 검색 조건의 보유 시설 항목을 만족하는 오피스 id 목록을 반환합니다.
+   *
+   * @return 인덱스가 준비되지 않았거나, 시설 조건이 없거나, 후보가 너무 많아 인덱스를 사용하지 않는 경우 Optional.empty()
+   */
+  public Optional<List<Long>> search(OfficeSearchCond cond) {
+    if (!ready || !hasAmenityCondition(cond)) {
+      return Optional.empty();
+    }
+
+    BitSet result;
+
+    lock.readLock().lock();
+    try {
+      result = (BitSet) officeBitmap.clone();
+
+      for (OfficeAmenity amenity : OfficeAmenity.values()) {
+        Boolean requested = amenity.getRequested().apply(cond);
+
+        if (requested == null) {
+          continue;
+        }
+
+        if (requested) {
+          result.and(amenityBitmaps.get(amenity));
+        } else {
+          result.andNot(amenityBitmaps.get(amenity));
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    if (result.cardinality() > MAX_CANDIDATE_SIZE) {
+      return Optional.empty();
+    }
+
+    List<Long> officeIds = new ArrayList<>(result.cardinality());
+    for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+      officeIds.add((long) i);
+    }
+
+    return Optional.of(officeIds);
+  }
+
+  private boolean hasAmenityCondition(OfficeSearchCond cond) {
+    for (OfficeAmenity amenity : OfficeAmenity.values()) {
+      if (amenity.getRequested().apply(cond) != null) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void afterCommit(Long officeId, Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      publish(officeId);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+        publish(officeId);
+      }
+    });
+  }
+
+  // amenities가 null이면 삭제된 오피스이다.
+  private void apply(Long officeId, Set<OfficeAmenity> amenities) {
+    int index = toIndex(officeId);
+
+    lock.writeLock().lock();
+    try {
+      amenityBitmaps.values().forEach(bitmap -> bitmap.clear(index));
+
+      if (amenities == null) {
+        officeBitmap.clear(index);
+      } else {
+        mark(amenityBitmaps, officeBitmap, index, amenities);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void publish(Long officeId) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + officeId);
+    } catch (RuntimeException e) {
+      log.warn("office amenity index invalidation publish failed. officeId : {}", officeId, e);
+    }
+  }
+
+  private void mark(Map<OfficeAmenity, BitSet> bitmaps, BitSet offices, int index,
+      Set<OfficeAmenity> amenities) {
+    offices.set(index);
+    amenities.forEach(amenity -> bitmaps.get(amenity).set(index));
+  }
+
+  private static Set<OfficeAmenity> provided(OfficeCondition condition) {
+    Set<OfficeAmenity> amenities = EnumSet.noneOf(OfficeAmenity.class);
+
+    for (OfficeAmenity amenity : OfficeAmenity.values()) {
+      if (amenity.getProvided().test(condition)) {
+        amenities.add(amenity);
+      }
+    }
+
+    return amenities;
+  }
+
+  private static Map<OfficeAmenity, BitSet> createBitmaps() {
+    Map<OfficeAmenity, BitSet> bitmaps = new EnumMap<>(OfficeAmenity.class);
+
+    for (OfficeAmenity amenity : OfficeAmenity.values()) {
+      bitmaps.put(amenity, new BitSet());
+    }
+
+    return bitmaps;
+  }
+
+  private static int toIndex(Long officeId) {
+    return Math.toIntExact(officeId);
+  }
+}
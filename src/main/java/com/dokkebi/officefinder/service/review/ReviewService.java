@@ -20,6 +20,7 @@ import com.dokkebi.officefinder.repository.CustomerRepository;
 import com.dokkebi.officefinder.repository.ReviewRepository;
 import com.dokkebi.officefinder.repository.lease.LeaseRepository;
 import com.dokkebi.officefinder.repository.office.OfficeRepository;
+import com.dokkebi.officefinder.service.office.OfficeDetailService;
 import com.dokkebi.officefinder.service.review.dto.ReviewOverviewDto;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -47,6 +48,7 @@ public class ReviewService {
   private final CustomerRepository customerRepository;
   private final OfficeRepository officeRepository;
   private final RedissonClient redissonClient;
+  private final OfficeDetailService officeDetailService;
 
   @Transactional
   public Review submit(SubmitControllerRequest controllerRequest,
@@ -69,12 +71,13 @@ public class ReviewService {
     Review review = Review.from(lease, customerId, controllerRequest);
     lease.changeLeaseStatus(LeaseStatus.REVIEWED);
     addReviewRateInfo(lease.getOffice(), review.getRate());
+    officeDetailService.evict(review.getOfficeId());
 
     return reviewRepository.save(review);
   }
 
   @Transactional
-  @CachePut(value = "Review", key = "#reviewId", cacheManager = "redisCacheManager")
+  @CachePut(value = "Review", key = "#reviewId", cacheManager = "twoLevelCacheManager")
   public Review update(SubmitControllerRequest submitControllerRequest, Long customerId, Long reviewId) {
     Review review = reviewRepository.findById(reviewId)
         .orElseThrow(() -> new CustomException(REVIEW_NOT_EXISTS));
@@ -84,6 +87,8 @@ public class ReviewService {
     }
 
     review.updateReview(submitControllerRequest.getRate(), submitControllerRequest.getDescription());
+    officeDetailService.evict(review.getOfficeId());
+
     return reviewRepository.save(review);
   }
 
@@ -101,7 +106,7 @@ public class ReviewService {
     return ReviewOverviewDto.from(reviews);
   }
 
-  @CacheEvict(value = "Review", key = "#reviewId", cacheManager = "redisCacheManager")
+  @CacheEvict(value = "Review", key = "#reviewId", cacheManager = "twoLevelCacheManager")
   public void delete(Long customerId, Long reviewId) {
     Customer customer = customerRepository.findById(customerId)
         .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
@@ -114,6 +119,7 @@ public class ReviewService {
     }
 
     reviewRepository.delete(review);
+    officeDetailService.evict(review.getOfficeId());
   }
 
   public Page<Review> getReviewsByOfficeId(Long officeId, Pageable pageable) {
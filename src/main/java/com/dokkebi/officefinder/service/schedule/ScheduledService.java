@@ -1,5 +1,8 @@
 package com.dokkebi.officefinder.service.schedule;
 
+import com.dokkebi.officefinder.config.batch.BatchJobConfig;
+import com.dokkebi.officefinder.service.chat.ChatUnreadCounter;
+import com.dokkebi.officefinder.service.office.index.OfficeAmenityIndex;
 import java.sql.Date;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +10,7 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -24,10 +28,56 @@ public class ScheduledService {
 
   private final Job alarmLeaseExpireJob;
 
+  private final Job leaseSweepJob;
+
+  private final ChatUnreadCounter chatUnreadCounter;
+
+  private final OfficeAmenityIndex officeAmenityIndex;
+
+  // 몇일 전 까지 알림을 보낼지 지정 가능(ex: 3,2,1일전 및 당일에 알림을 보내고자 한다면 "3,2,1,0"
+  private static final String DAYS_TO_NOTIFY = "3,2,1,0";
+
+  // true : 임대 상태 변경, 알림을 leaseSweepJob 하나로 처리, false : 기존 세 개의 job으로 처리
+  @Value("${batch.lease.sweep-enabled:true}")
+  private boolean sweepEnabled;
+
+  // 임대 상태 변경 job의 파티션 개수, 기본값은 사용 가능한 코어 수
+  @Value("${batch.lease.grid-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+  private int gridSize;
+
+  @Value("${batch.lease.chunk-size:100}")
+  private int chunkSize;
+
+  // bulk : id 구간마다 UPDATE 문으로 변경, entity : 엔티티를 읽어 JPA로 변경
+  @Value("${batch.lease.update-mode:" + BatchJobConfig.DEFAULT_UPDATE_MODE + "}")
+  private String updateMode;
+
+  @Scheduled(cron = "0 0 0 * * ?")
+  public void executeLeaseSweep() throws Exception {
+    if (!sweepEnabled) {
+      return;
+    }
+
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addDate("today", Date.valueOf(LocalDate.now()))
+        .addString("daysToNotify", DAYS_TO_NOTIFY)
+        .addLong("chunkSize", (long) chunkSize)
+        .toJobParameters();
+
+    jobLauncher.run(leaseSweepJob, jobParameters);
+  }
+
   @Scheduled(cron = "0 0 0 * * ?")
   public void executeUpdateLeases() throws Exception {
+    if (sweepEnabled) {
+      return;
+    }
+
     JobParameters jobParameters = new JobParametersBuilder()
         .addDate("today", Date.valueOf(LocalDate.now()))
+        .addLong("gridSize", (long) gridSize)
+        .addLong("chunkSize", (long) chunkSize)
+        .addString("updateMode", updateMode)
         .toJobParameters();
 
     jobLauncher.run(updateLeaseJob, jobParameters);
@@ -35,8 +85,11 @@ public class ScheduledService {
 
   @Scheduled(cron = "0 0 0 * * ?")
   public void sendLeaseStartNotifications() throws Exception{
-    // 몇일 전 까지 알림을 보낼지 지정 가능(ex: 3,2,1일전 및 당일에 알림을 보내고자 한다면 "3,2,1,0"
-    String daysToNotify = "3,2,1,0";
+    if (sweepEnabled) {
+      return;
+    }
+
+    String daysToNotify = DAYS_TO_NOTIFY;
     JobParameters jobParameters = new JobParametersBuilder()
         .addDate("startDate", Date.valueOf(LocalDate.now()))
         .addString("daysToNotify", daysToNotify)
@@ -47,7 +100,11 @@ public class ScheduledService {
 
   @Scheduled(cron = "0 0 0 * * ?")
   public void sendLeaseExpirationNotifications() throws Exception{
-    String daysToNotify = "3,2,1,0";
+    if (sweepEnabled) {
+      return;
+    }
+
+    String daysToNotify = DAYS_TO_NOTIFY;
     JobParameters jobParameters = new JobParametersBuilder()
         .addDate("expireDate", Date.valueOf(LocalDate.now().minusDays(1)))
         .addString("daysToNotify", daysToNotify)
@@ -55,4 +112,17 @@ public class ScheduledService {
 
     jobLauncher.run(alarmLeaseExpireJob, jobParameters);
   }
+
+  // Redis가 초기화되었거나 state-ttl이 지나면 읽지 않은 채팅 메세지 수를 DB 기준으로 다시 만든다.
+  @Scheduled(fixedDelayString = "${chat.unread.reconcile-interval:60000}")
+  public void reconcileChatUnreadCounters() {
+    chatUnreadCounter.reconcile();
+  }
+
+  // 다른 노드의 변경 알림이 유실되었거나 반영에 실패한 경우에 대비하여 오피스 시설 인덱스를 DB 기준으로 다시 만든다.
+  @Scheduled(fixedDelayString = "${office.amenity-index.rebuild-interval:600000}",
+      initialDelayString = "${office.amenity-index.rebuild-interval:600000}")
+  public void rebuildOfficeAmenityIndex() {
+    officeAmenityIndex.rebuild();
+  }
 }
@@ -0,0 +1,52 @@
+package com.dokkebi.officefinder.utils;
+
+import static com.dokkebi.officefinder.exception.CustomErrorCode.INVALID_CURSOR;
+
+import com.dokkebi.officefinder.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+
+/*
+커서 기반 페이징에서 사용하는 불투명(opaque) 토큰
+정렬 기준 이름과 마지막으로 조회된 행의 id를 "정렬기준:id" 형태로 묶어 Base64(URL-safe)로 인코딩한다.
+ */
+public class CursorToken {
+
+  public static final String ID_SORT_KEY = "id";
+
+  private static final String SEPARATOR = ":";
+
+  private CursorToken() {
+  }
+
+  public static String encode(String sortKey, Long lastId) {
+    if (lastId == null) {
+      return null;
+    }
+
+    String raw = sortKey + SEPARATOR + lastId;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 빈 토큰은 첫 페이지 요청으로 보고 null을 반환한다.
+  public static Long decode(String sortKey, String token) {
+    if (!StringUtils.hasText(token)) {
+      return null;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR);
+
+      if (parts.length != 2 || !parts[0].equals(sortKey)) {
+        throw new CustomException(INVALID_CURSOR);
+      }
+
+      return Long.parseLong(parts[1]);
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(INVALID_CURSOR);
+    }
+  }
+}
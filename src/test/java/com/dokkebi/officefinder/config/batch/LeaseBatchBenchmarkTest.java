@@ -0,0 +1,233 @@
+package com.dokkebi.officefinder.config.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.office.Office;
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
+import com.dokkebi.officefinder.repository.lease.LeaseRepository;
+import com.dokkebi.officefinder.repository.notification.CustomerNotificationRepository;
+import com.dokkebi.officefinder.repository.office.OfficeRepository;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 임시 임대 데이터를 생성하여 임대 batch job의 처리량을 chunk, page 크기별로 측정한다.
+ * 처리 시간은 실행 환경에 따라 달라지므로 로그로만 남기고, 처리 결과만 검증한다.
+ * 생성할 임대 건수는 -Dbenchmark.lease-count 로 변경할 수 있다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class LeaseBatchBenchmarkTest {
+
+  private static final int LEASE_COUNT = Integer.getInteger("benchmark.lease-count", 2_000);
+  private static final int CUSTOMER_COUNT = 20;
+
+  // {chunkSize, pageSize}
+  private static final int[][] SIZES = {{50, 50}, {100, 100}, {500, 500}, {100, 500}};
+
+  @Autowired
+  private JobLauncher jobLauncher;
+  @Autowired
+  private Job leaseSweepJob;
+  @Autowired
+  private Job updateLeaseJob;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private CustomerRepository customerRepository;
+  @Autowired
+  private OfficeOwnerRepository officeOwnerRepository;
+  @Autowired
+  private OfficeRepository officeRepository;
+  @Autowired
+  private LeaseRepository leaseRepository;
+  @Autowired
+  private CustomerNotificationRepository customerNotificationRepository;
+
+  private List<Long> customerIds;
+  private Long officeId;
+
+  @BeforeEach
+  void setUp() {
+    OfficeOwner owner = officeOwnerRepository.save(OfficeOwner.builder()
+        .name("owner")
+        .email("benchmark-owner@test.com")
+        .password("1234")
+        .businessNumber("123-45")
+        .point(0L)
+        .roles(Set.of("ROLE_OFFICE_OWNER"))
+        .build());
+
+    officeId = officeRepository.save(Office.builder().name("office").owner(owner).build())
+        .getId();
+
+    customerIds = IntStream.range(0, CUSTOMER_COUNT)
+        .mapToObj(i -> customerRepository.save(Customer.builder()
+            .name("customer" + i)
+            .email("benchmark" + i + "@test.com")
+            .password("1234")
+            .roles(Set.of("ROLE_CUSTOMER"))
+            .point(0)
+            .build()).getId())
+        .collect(Collectors.toList());
+  }
+
+  @AfterEach
+  void tearDown() {
+    customerNotificationRepository.deleteAllInBatch();
+    leaseRepository.deleteAllInBatch();
+    customerRepository.deleteAllInBatch();
+    officeRepository.deleteAllInBatch();
+    officeOwnerRepository.deleteAllInBatch();
+  }
+
+  @DisplayName("chunk, page 크기별 leaseSweepJob 처리량을 측정한다.")
+  @Test
+  public void leaseSweepJobThroughput() throws Exception {
+    for (int[] size : SIZES) {
+      // given
+      seedLeases();
+
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addDate("today", Date.valueOf(LocalDate.now()))
+          .addString("daysToNotify", "3,2,1,0")
+          .addLong("chunkSize", (long) size[0])
+          .addLong("pageSize", (long) size[1])
+          .addLong("run.id", System.nanoTime())
+          .toJobParameters();
+
+      // when
+      long start = System.nanoTime();
+      JobExecution execution = jobLauncher.run(leaseSweepJob, jobParameters);
+      long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+      log.info("leaseSweepJob chunk : {}, page : {}, leases : {}, {} ms, {} leases/s",
+          size[0], size[1], LEASE_COUNT, elapsedMillis, LEASE_COUNT * 1000L / elapsedMillis);
+
+      // then
+      assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+      assertThat(countLeases(LeaseStatus.EXPIRED)).isEqualTo(expectedCount(0));
+      assertThat(countLeases(LeaseStatus.PROCEEDING)).isEqualTo(
+          expectedCount(1) + expectedCount(2) + expectedCount(3));
+
+      customerNotificationRepository.deleteAllInBatch();
+      leaseRepository.deleteAllInBatch();
+    }
+  }
+
+  @DisplayName("updateLeaseJob의 entity, bulk 방식별 처리량을 측정한다.")
+  @Test
+  public void updateLeaseJobThroughput() throws Exception {
+    for (String updateMode : List.of("entity", "bulk")) {
+      // given
+      seedLeases();
+
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addDate("today", Date.valueOf(LocalDate.now()))
+          .addLong("gridSize", 4L)
+          .addLong("chunkSize", 100L)
+          .addString("updateMode", updateMode)
+          .addLong("run.id", System.nanoTime())
+          .toJobParameters();
+
+      // when
+      long start = System.nanoTime();
+      JobExecution execution = jobLauncher.run(updateLeaseJob, jobParameters);
+      long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+      log.info("updateLeaseJob mode : {}, leases : {}, {} ms, {} leases/s",
+          updateMode, LEASE_COUNT, elapsedMillis, LEASE_COUNT * 1000L / elapsedMillis);
+
+      // then
+      assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+      assertThat(countLeases(LeaseStatus.EXPIRED)).isEqualTo(expectedCount(0));
+      assertThat(countLeases(LeaseStatus.AWAIT)).isZero();
+
+      leaseRepository.deleteAllInBatch();
+    }
+  }
+
+  /*
+   * 0 : 어제 만료된 진행 중 임대(상태 변경 + 만료 알림)
+   * 1 : 오늘 시작하는 대기 임대(상태 변경 + 시작 알림)
+   * 2 : 2일 전 만료된 진행 중 임대(만료 알림)
+   * 3 : 조회 대상이 아닌 진행 중 임대
+   */
+  private void seedLeases() {
+    LocalDate today = LocalDate.now();
+    LocalDate yesterday = today.minusDays(1);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < LEASE_COUNT; i++) {
+      LeaseStatus status;
+      LocalDate startDate;
+      LocalDate endDate;
+
+      switch (i % 4) {
+        case 0:
+          status = LeaseStatus.PROCEEDING;
+          startDate = yesterday.minusMonths(1);
+          endDate = yesterday;
+          break;
+        case 1:
+          status = LeaseStatus.AWAIT;
+          startDate = today;
+          endDate = today.plusMonths(1);
+          break;
+        case 2:
+          status = LeaseStatus.PROCEEDING;
+          startDate = yesterday.minusMonths(2);
+          endDate = yesterday.minusDays(2);
+          break;
+        default:
+          status = LeaseStatus.PROCEEDING;
+          startDate = today.minusDays(100);
+          endDate = today.plusDays(100);
+      }
+
+      rows.add(new Object[]{customerIds.get(i % CUSTOMER_COUNT), officeId, 10000L, status.name(),
+          Date.valueOf(startDate), Date.valueOf(endDate), now, now});
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO lease (customer_id, office_id, lease_price, "
+        + "lease_status, lease_start_date, lease_end_date, created_at, last_modified_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+  }
+
+  private long countLeases(LeaseStatus status) {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM lease WHERE lease_status = ?",
+        Long.class, status.name());
+  }
+
+  private long expectedCount(int group) {
+    return IntStream.range(0, LEASE_COUNT).filter(i -> i % 4 == group).count();
+  }
+}
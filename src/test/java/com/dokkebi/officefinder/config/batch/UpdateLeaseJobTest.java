@@ -0,0 +1,151 @@
+package com.dokkebi.officefinder.config.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.office.Office;
+import com.dokkebi.officefinder.entity.type.LeaseStatus;
+import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
+import com.dokkebi.officefinder.repository.lease.LeaseRepository;
+import com.dokkebi.officefinder.repository.notification.CustomerNotificationRepository;
+import com.dokkebi.officefinder.repository.office.OfficeRepository;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class UpdateLeaseJobTest {
+
+  private static final int LEASE_COUNT = 30;
+
+  @Autowired
+  private JobLauncher jobLauncher;
+  @Autowired
+  private Job updateLeaseJob;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private CustomerRepository customerRepository;
+  @Autowired
+  private OfficeOwnerRepository officeOwnerRepository;
+  @Autowired
+  private OfficeRepository officeRepository;
+  @Autowired
+  private LeaseRepository leaseRepository;
+  @Autowired
+  private CustomerNotificationRepository customerNotificationRepository;
+
+  private Long customerId;
+  private Long officeId;
+
+  @BeforeEach
+  void setUp() {
+    OfficeOwner owner = officeOwnerRepository.save(OfficeOwner.builder()
+        .name("owner")
+        .email("update-job-owner@test.com")
+        .password("1234")
+        .businessNumber("123-45")
+        .point(0L)
+        .roles(Set.of("ROLE_OFFICE_OWNER"))
+        .build());
+
+    officeId = officeRepository.save(Office.builder().name("office").owner(owner).build())
+        .getId();
+
+    customerId = customerRepository.save(Customer.builder()
+        .name("customer")
+        .email("update-job@test.com")
+        .password("1234")
+        .roles(Set.of("ROLE_CUSTOMER"))
+        .point(0)
+        .build()).getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    customerNotificationRepository.deleteAllInBatch();
+    leaseRepository.deleteAllInBatch();
+    customerRepository.deleteAllInBatch();
+    officeRepository.deleteAllInBatch();
+    officeOwnerRepository.deleteAllInBatch();
+  }
+
+  @DisplayName("updateLeaseJob은 실행 방식과 관계없이 파티션마다 어제 만료된 임대와 오늘 시작하는 임대의 상태를 변경한다.")
+  @ParameterizedTest
+  @ValueSource(strings = {"entity", "bulk"})
+  public void updateLeaseJob(String updateMode) throws Exception {
+    // given
+    seedLeases();
+
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addDate("today", Date.valueOf(LocalDate.now()))
+        .addLong("gridSize", 3L)
+        .addLong("chunkSize", 4L)
+        .addString("updateMode", updateMode)
+        .addLong("run.id", System.nanoTime())
+        .toJobParameters();
+
+    // when
+    JobExecution execution = jobLauncher.run(updateLeaseJob, jobParameters);
+
+    // then
+    assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(countLeases(LeaseStatus.EXPIRED)).isEqualTo(LEASE_COUNT / 2);
+    assertThat(countLeases(LeaseStatus.AWAIT)).isZero();
+
+    // 두 flow가 각각 gridSize 개의 파티션으로 실행되고, 파티션 이름은 실행된 worker step의 이름을 따른다.
+    boolean bulk = "bulk".equals(updateMode);
+    assertThat(execution.getStepExecutions())
+        .extracting(StepExecution::getStepName)
+        .filteredOn(name -> name.contains(":partition"))
+        .hasSize(6)
+        .allMatch(name -> name.contains("BulkWorkerStep:") == bulk);
+  }
+
+  // 짝수 : 어제 만료된 진행 중 임대, 홀수 : 오늘 시작하는 대기 임대
+  private void seedLeases() {
+    LocalDate today = LocalDate.now();
+    LocalDate yesterday = today.minusDays(1);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < LEASE_COUNT; i++) {
+      boolean expired = i % 2 == 0;
+
+      rows.add(new Object[]{customerId, officeId, 10000L,
+          (expired ? LeaseStatus.PROCEEDING : LeaseStatus.AWAIT).name(),
+          Date.valueOf(expired ? yesterday.minusMonths(1) : today),
+          Date.valueOf(expired ? yesterday : today.plusMonths(1)), now, now});
+    }
+
+    jdbcTemplate.batchUpdate("INSERT INTO lease (customer_id, office_id, lease_price, "
+        + "lease_status, lease_start_date, lease_end_date, created_at, last_modified_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+  }
+
+  private long countLeases(LeaseStatus status) {
+    return jdbcTemplate.queryForObject("SELECT count(*) FROM lease WHERE lease_status = ?",
+        Long.class, status.name());
+  }
+}
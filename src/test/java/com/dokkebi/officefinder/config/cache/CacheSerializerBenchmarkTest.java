@@ -0,0 +1,111 @@
+package com.dokkebi.officefinder.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dokkebi.officefinder.controller.office.dto.OfficeDetailResponseDto;
+import com.dokkebi.officefinder.controller.office.dto.OfficeOptionDto;
+import com.dokkebi.officefinder.controller.review.dto.ReviewControllerDto.ReviewDto;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/*
+ * JSON, Smile 직렬화기의 크기와 직렬화/역직렬화 시간을 비교한다.
+ * 시간은 실행 환경에 따라 달라지므로 로그로만 남기고, 값 보존과 크기만 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class CacheSerializerBenchmarkTest {
+
+  private static final int WARM_UP = 2_000;
+  private static final int ITERATIONS = 20_000;
+
+  @DisplayName("Smile 직렬화기는 JSON과 같은 값을 복원하면서 더 작은 크기로 저장한다.")
+  @Test
+  public void roundTripBenchmark() {
+    // given
+    OfficeDetailResponseDto value = createOfficeDetail();
+    RedisSerializer<Object> json = CacheSerializers.json();
+    RedisSerializer<Object> smile = CacheSerializers.smile();
+
+    // when
+    byte[] jsonBytes = json.serialize(value);
+    byte[] smileBytes = smile.serialize(value);
+
+    OfficeDetailResponseDto fromJson = (OfficeDetailResponseDto) json.deserialize(jsonBytes);
+    OfficeDetailResponseDto fromSmile = (OfficeDetailResponseDto) smile.deserialize(smileBytes);
+
+    log.info("json : {} bytes, {} ns/round-trip", jsonBytes.length, measure(json, value));
+    log.info("smile : {} bytes, {} ns/round-trip", smileBytes.length, measure(smile, value));
+
+    // then
+    assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    assertThat(fromSmile).usingRecursiveComparison().isEqualTo(fromJson);
+    assertThat(fromSmile.getReviews()).hasSize(2)
+        .extracting("createdAt")
+        .containsExactly(LocalDate.of(2023, 9, 1), LocalDate.of(2023, 9, 2));
+  }
+
+  @DisplayName("Smile 직렬화기는 형식 변경 전에 JSON으로 저장된 값도 읽을 수 있다.")
+  @Test
+  public void readJsonWithSmileSerializer() {
+    // given
+    OfficeDetailResponseDto value = createOfficeDetail();
+    byte[] jsonBytes = CacheSerializers.json().serialize(value);
+
+    // when
+    Object result = CacheSerializers.smile().deserialize(jsonBytes);
+
+    // then
+    assertThat(result).usingRecursiveComparison().isEqualTo(value);
+  }
+
+  private long measure(RedisSerializer<Object> serializer, Object value) {
+    for (int i = 0; i < WARM_UP; i++) {
+      serializer.deserialize(serializer.serialize(value));
+    }
+
+    long start = System.nanoTime();
+
+    for (int i = 0; i < ITERATIONS; i++) {
+      serializer.deserialize(serializer.serialize(value));
+    }
+
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+
+  private OfficeDetailResponseDto createOfficeDetail() {
+    return OfficeDetailResponseDto.builder()
+        .officeName("office")
+        .address("서울특별시 강남구 테헤란로 1")
+        .maxRoomCount(10)
+        .leaseFee(500000L)
+        .maxCapacity(20)
+        .reviewCount("2")
+        .officeOptionDto(OfficeOptionDto.builder()
+            .haveAirCondition(true)
+            .haveWifi(true)
+            .haveParkArea(true)
+            .build())
+        .reviews(List.of(
+            createReview("customer1", LocalDate.of(2023, 9, 1)),
+            createReview("customer2", LocalDate.of(2023, 9, 2))
+        ))
+        .officePictureList(List.of("a.png", "b.png", "None", "None", "None"))
+        .build();
+  }
+
+  private ReviewDto createReview(String customerName, LocalDate createdAt) {
+    return ReviewDto.builder()
+        .customerName(customerName)
+        .customerImagePath("None")
+        .createdAt(createdAt)
+        .description("좋은 오피스입니다.")
+        .rate(5)
+        .build();
+  }
+}
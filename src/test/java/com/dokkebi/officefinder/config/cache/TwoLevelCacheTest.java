@@ -0,0 +1,110 @@
+package com.dokkebi.officefinder.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dokkebi.officefinder.exception.CustomErrorCode;
+import com.dokkebi.officefinder.exception.CustomException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class TwoLevelCacheTest {
+
+  private com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+  private ConcurrentMapCache remoteCache;
+  private TwoLevelCache twoLevelCache;
+  private List<Object> publishedKeys;
+
+  @BeforeEach
+  void setUp() {
+    localCache = Caffeine.newBuilder().maximumSize(100).build();
+    remoteCache = new ConcurrentMapCache("test");
+    publishedKeys = new ArrayList<>();
+    twoLevelCache = new TwoLevelCache("test", localCache, remoteCache, publishedKeys::add);
+  }
+
+  @DisplayName("캐시에 없는 값은 한 번만 생성하고 L1, L2 모두에 저장한다.")
+  @Test
+  public void getWithValueLoaderTest() {
+    // given
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // when
+    twoLevelCache.get(1L, () -> "value" + loadCount.incrementAndGet());
+    String result = twoLevelCache.get(1L, () -> "value" + loadCount.incrementAndGet());
+
+    // then
+    assertThat(result).isEqualTo("value1");
+    assertThat(loadCount.get()).isEqualTo(1);
+    assertThat(localCache.getIfPresent(1L)).isEqualTo("value1");
+    assertThat(remoteCache.get(1L).get()).isEqualTo("value1");
+  }
+
+  @DisplayName("L1에 없는 값은 L2에서 읽어 L1에 채운다.")
+  @Test
+  public void lookupFromRemoteTest() {
+    // given
+    remoteCache.put(1L, "remote");
+
+    // when
+    String result = twoLevelCache.get(1L, String.class);
+
+    // then
+    assertThat(result).isEqualTo("remote");
+    assertThat(localCache.getIfPresent(1L)).isEqualTo("remote");
+  }
+
+  @DisplayName("값을 제거하면 L1, L2 모두에서 제거된다.")
+  @Test
+  public void evictTest() {
+    // given
+    twoLevelCache.put(1L, "value");
+
+    // when
+    twoLevelCache.evict(1L);
+
+    // then
+    assertThat(twoLevelCache.get(1L)).isNull();
+    assertThat(remoteCache.get(1L)).isNull();
+  }
+
+  @DisplayName("값 생성 중 발생한 RuntimeException은 감싸지 않고 그대로 전달한다.")
+  @Test
+  public void valueLoaderExceptionTest() {
+    assertThatThrownBy(() -> twoLevelCache.get(1L, () -> {
+      throw new CustomException(CustomErrorCode.OFFICE_NOT_EXISTS);
+    })).isInstanceOf(CustomException.class);
+  }
+
+  @DisplayName("값을 변경하면 다른 노드에 변경된 key를 알린다.")
+  @Test
+  public void publishInvalidationTest() {
+    // when
+    twoLevelCache.put(1L, "value");
+    twoLevelCache.evict(2L);
+    twoLevelCache.clear();
+
+    // then
+    assertThat(publishedKeys).containsExactly(1L, 2L, null);
+  }
+
+  @DisplayName("다른 노드의 변경 알림을 받으면 L1만 비우고 L2의 값은 유지한다.")
+  @Test
+  public void evictLocalTest() {
+    // given
+    twoLevelCache.put(1L, "value");
+
+    // when
+    twoLevelCache.evictLocal(1L);
+
+    // then
+    assertThat(localCache.getIfPresent(1L)).isNull();
+    assertThat(twoLevelCache.get(1L, String.class)).isEqualTo("value");
+  }
+}
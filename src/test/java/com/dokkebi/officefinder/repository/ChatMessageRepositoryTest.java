@@ -0,0 +1,102 @@
+package com.dokkebi.officefinder.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.chat.ChatMessage;
+import com.dokkebi.officefinder.entity.chat.ChatRoom;
+import com.dokkebi.officefinder.repository.chat.ChatMessageRepository;
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Slice;
+
+@DataJpaTest
+public class ChatMessageRepositoryTest {
+
+  @Autowired
+  private ChatMessageRepository chatMessageRepository;
+  @Autowired
+  private ChatRoomRepository chatRoomRepository;
+  @Autowired
+  private CustomerRepository customerRepository;
+  @Autowired
+  private OfficeOwnerRepository officeOwnerRepository;
+
+  private ChatRoom chatRoom;
+  private List<Long> messageIds;
+
+  @BeforeEach
+  void setUp() {
+    Customer customer = customerRepository.save(Customer.builder()
+        .name("customer")
+        .email("customer@test.com")
+        .password("test")
+        .roles(Set.of("ROLE_CUSTOMER"))
+        .build());
+    OfficeOwner officeOwner = officeOwnerRepository.save(OfficeOwner.builder()
+        .name("owner")
+        .email("owner@test.com")
+        .password("test")
+        .businessNumber("123")
+        .roles(Set.of("ROLE_OFFICE_OWNER"))
+        .build());
+
+    chatRoom = chatRoomRepository.save(ChatRoom.create(customer, officeOwner, 1L));
+    ChatRoom otherRoom = chatRoomRepository.save(ChatRoom.create(customer, officeOwner, 2L));
+
+    messageIds = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      messageIds.add(chatMessageRepository.save(ChatMessage.builder()
+          .chatRoom(chatRoom)
+          .customerId(customer.getId())
+          .message("message" + i)
+          .build()).getId());
+      chatMessageRepository.save(ChatMessage.builder()
+          .chatRoom(otherRoom)
+          .officeOwnerId(officeOwner.getId())
+          .message("other" + i)
+          .build());
+    }
+  }
+
+  @DisplayName("커서가 없으면 채팅방의 가장 최근 메세지부터 size개를 조회하고, 커서 이전 메세지를 이어서 조회할 수 있다.")
+  @Test
+  void findByChatRoomIdBefore() {
+    //when
+    Slice<ChatMessage> first = chatMessageRepository.findByChatRoomIdBefore(chatRoom.getId(),
+        null, 2);
+    Long cursor = first.getContent().get(first.getContent().size() - 1).getId();
+    Slice<ChatMessage> last = chatMessageRepository.findByChatRoomIdBefore(chatRoom.getId(),
+        messageIds.get(2), 2);
+
+    //then
+    assertThat(first.hasNext()).isTrue();
+    assertThat(first.getContent()).extracting(ChatMessage::getMessage)
+        .containsExactly("message5", "message4");
+    assertThat(cursor).isEqualTo(messageIds.get(3));
+
+    assertThat(last.hasNext()).isFalse();
+    assertThat(last.getContent()).extracting(ChatMessage::getMessage)
+        .containsExactly("message2", "message1");
+  }
+
+  @DisplayName("특정 메세지 id 이후에 도착한 메세지만 오래된 순으로 조회할 수 있다.")
+  @Test
+  void findByChatRoomIdSince() {
+    //when
+    List<ChatMessage> result = chatMessageRepository.findByChatRoomIdSince(chatRoom.getId(),
+        messageIds.get(2), 100);
+
+    //then
+    assertThat(result).extracting(ChatMessage::getMessage)
+        .containsExactly("message4", "message5");
+  }
+}
@@ -0,0 +1,93 @@
+package com.dokkebi.officefinder.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.chat.ChatRoom;
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.Set;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class ChatRoomRepositoryTest {
+
+  @Autowired
+  private ChatRoomRepository chatRoomRepository;
+  @Autowired
+  private CustomerRepository customerRepository;
+  @Autowired
+  private OfficeOwnerRepository officeOwnerRepository;
+  @Autowired
+  private EntityManager em;
+
+  private Customer customer;
+  private ChatRoom chatRoom;
+
+  @BeforeEach
+  void setUp() {
+    customer = customerRepository.save(Customer.builder()
+        .name("customer")
+        .email("customer@test.com")
+        .password("test")
+        .roles(Set.of("ROLE_CUSTOMER"))
+        .build());
+    OfficeOwner officeOwner = officeOwnerRepository.save(OfficeOwner.builder()
+        .name("owner")
+        .email("owner@test.com")
+        .password("test")
+        .businessNumber("123")
+        .roles(Set.of("ROLE_OFFICE_OWNER"))
+        .build());
+
+    chatRoom = chatRoomRepository.save(ChatRoom.create(customer, officeOwner, 1L));
+  }
+
+  @DisplayName("마지막 메세지 스냅샷은 더 최신 메세지 id로만 갱신된다.")
+  @Test
+  void updateLastMessage() {
+    //given
+    LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+
+    //when
+    int newer = chatRoomRepository.updateLastMessage(chatRoom.getId(), 2L, "newer", now,
+        UserRole.CUSTOMER);
+    int older = chatRoomRepository.updateLastMessage(chatRoom.getId(), 1L, "older",
+        now.minusSeconds(1), UserRole.OFFICE_OWNER);
+    em.clear();
+
+    //then
+    ChatRoom result = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+    assertThat(newer).isEqualTo(1);
+    assertThat(older).isZero();
+    assertThat(result.getLastMessageId()).isEqualTo(2L);
+    assertThat(result.getLastMessage()).isEqualTo("newer");
+    assertThat(result.getLastMessageSender()).isEqualTo(UserRole.CUSTOMER);
+  }
+
+  @DisplayName("마지막으로 읽은 시각 이후에 메세지가 도착한 채팅방이 있으면 새 메세지가 있다고 판단한다.")
+  @Test
+  void existsNewMessageByCustomerId() {
+    //given
+    boolean before = chatRoomRepository.existsNewMessageByCustomerId(customer.getId());
+
+    //when
+    chatRoomRepository.updateLastMessage(chatRoom.getId(), 1L, "hello",
+        LocalDateTime.now().plusMinutes(1), UserRole.OFFICE_OWNER);
+    em.clear();
+
+    //then
+    assertThat(before).isFalse();
+    assertThat(chatRoomRepository.existsNewMessageByCustomerId(customer.getId())).isTrue();
+    assertThat(chatRoomRepository.findWithMembersByCustomerId(customer.getId()))
+        .extracting(ChatRoom::getLastMessage)
+        .containsExactly("hello");
+  }
+}
@@ -172,6 +172,34 @@ public class LeaseRepositoryTest {
         );
   }
 
+  @Test
+  @DisplayName("오피스의 사용 중인 방 개수는 해당 오피스의 기간이 겹치는 임대만 센다.")
+  void countOfficeRoomInUse() {
+    // Given
+    Customer customer = customerRepository.save(
+        createCustomer("customer", "test@test.com", "1234", 1000));
+
+    Office office = officeRepository.save(createOffice("office1"));
+    Office otherOffice = officeRepository.save(createOffice("office2"));
+
+    LocalDate startDate = LocalDate.now();
+    LocalDate endDate = startDate.plusDays(20);
+
+    leaseRepository.saveAll(List.of(
+        createLease(customer, office, 10000L, AWAIT, startDate, endDate),
+        createLease(customer, office, 10000L, ACCEPTED, startDate.plusDays(10), endDate),
+        createLease(customer, office, 10000L, AWAIT, endDate.plusDays(1), endDate.plusDays(5)),
+        createLease(customer, otherOffice, 10000L, AWAIT, startDate, endDate)
+    ));
+
+    // When
+    Long count = leaseRepository.countOfficeRoomInUse(office.getId(), List.of(AWAIT, ACCEPTED),
+        startDate, endDate);
+
+    // Then
+    assertThat(count).isEqualTo(2L);
+  }
+
   private static Lease createLease(Customer savedCustomer, Office savedOffice, long price, LeaseStatus status,
       LocalDate startDate, LocalDate endDate) {
 
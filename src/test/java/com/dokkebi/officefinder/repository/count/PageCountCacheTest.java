@@ -0,0 +1,29 @@
+package com.dokkebi.officefinder.repository.count;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCountCacheTest {
+
+  private final PageCountCache pageCountCache = new PageCountCache(30, 100);
+
+  @DisplayName("조건 접두사로 무효화하면 접두사가 같은 다른 회원의 개수는 유지된다.")
+  @Test
+  void evictByPrefix() {
+    // given
+    AtomicLong queryCount = new AtomicLong();
+    pageCountCache.get(PageCountCache.LEASE, "customer:1:", queryCount::incrementAndGet);
+    pageCountCache.get(PageCountCache.LEASE, "customer:12:", queryCount::incrementAndGet);
+
+    // when
+    pageCountCache.evict(PageCountCache.LEASE, "customer:1:");
+
+    // then
+    pageCountCache.get(PageCountCache.LEASE, "customer:1:", queryCount::incrementAndGet);
+    pageCountCache.get(PageCountCache.LEASE, "customer:12:", queryCount::incrementAndGet);
+    assertThat(queryCount.get()).isEqualTo(3);
+  }
+}
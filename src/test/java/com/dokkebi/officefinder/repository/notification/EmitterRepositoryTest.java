@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -142,4 +146,55 @@ class EmitterRepositoryTest {
     Map<String, Object> events = repository.findAllEventCacheStartsWithEmail("test@example.com");
     assertTrue(events.isEmpty());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Last-Event-ID 이후의 이벤트를 저장 순서대로 조회 테스트")
+  void findAllEventCacheAfterTest() {
+    // Given
+    String eventId1 = repository.saveEvent("test@example.com", "Event 1");
+    String eventId2 = repository.saveEvent("test@example.com", "Event 2");
+    String eventId3 = repository.saveEvent("test@example.com", "Event 3");
+
+    // When
+    Map<String, Object> events = repository.findAllEventCacheAfter("test@example.com", eventId1);
+
+    // Then
+    assertEquals(List.of(eventId2, eventId3), new ArrayList<>(events.keySet()));
+    assertEquals(List.of("Event 2", "Event 3"), new ArrayList<>(events.values()));
+  }
+
+  @Test
+  @DisplayName("회원별 최대 개수를 넘으면 오래된 이벤트부터 제거 테스트")
+  void eventCacheMaxSizeTest() {
+    // Given
+    EmitterRepository boundedRepository = new EmitterRepository(2, Duration.ofMinutes(30),
+        new SimpleMeterRegistry());
+
+    // When
+    boundedRepository.saveEvent("test@example.com", "Event 1");
+    boundedRepository.saveEvent("test@example.com", "Event 2");
+    boundedRepository.saveEvent("test@example.com", "Event 3");
+
+    // Then
+    Map<String, Object> events = boundedRepository.findAllEventCacheStartsWithEmail(
+        "test@example.com");
+    assertEquals(2, events.size());
+    assertFalse(events.containsValue("Event 1"));
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 이벤트 제거 테스트")
+  void evictExpiredEventsTest() {
+    // Given
+    EmitterRepository expiringRepository = new EmitterRepository(100, Duration.ofMinutes(1),
+        new SimpleMeterRegistry());
+    long tenMinutesAgo = System.currentTimeMillis() - Duration.ofMinutes(10).toMillis();
+    expiringRepository.saveEventCache("test@example.com" + "_" + tenMinutesAgo, "Old Event");
+
+    // When
+    expiringRepository.evictExpiredEvents();
+
+    // Then
+    assertTrue(expiringRepository.findAllEventCacheStartsWithEmail("test@example.com").isEmpty());
+  }
+}
@@ -24,6 +24,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 @DataJpaTest
 class OfficeRepositoryImplTest {
@@ -198,6 +199,33 @@ class OfficeRepositoryImplTest {
         );
   }
 
+  @DisplayName("커서 이후의 오피스를 최신순으로 조회할 수 있다. 조회 개수보다 결과가 많으면 다음 페이지가 존재한다.")
+  @Test
+  public void findBySearchCondAfter() {
+    // given
+    addData();
+
+    OfficeSearchCond cond = new OfficeSearchCond();
+    cond.setLegion("경상남도");
+
+    // when
+    Slice<Office> firstSlice = officeRepository.findBySearchCondAfter(cond, null, null, 2);
+    Long lastOfficeId = firstSlice.getContent().get(1).getId();
+    Slice<Office> secondSlice = officeRepository.findBySearchCondAfter(cond, null, lastOfficeId,
+        2);
+
+    // then
+    assertThat(firstSlice.getContent()).hasSize(2)
+        .extracting("name")
+        .containsExactly("office3", "office2");
+    assertThat(firstSlice.hasNext()).isTrue();
+
+    assertThat(secondSlice.getContent()).hasSize(1)
+        .extracting("name")
+        .containsExactly("office");
+    assertThat(secondSlice.hasNext()).isFalse();
+  }
+
   private void addData() {
     OfficeOwner owner = createOfficeOwner("kim", "test@test.com", "1234", "123-456", 1000);
     Office office = createOffice("office", owner, 5, 500000);
@@ -58,4 +58,48 @@ class OfficePictureRepositoryTest {
             "abcd.png", "abce.png", "abcf.png"
         );
   }
-}
\ No newline at end of file
+
+  @DisplayName("여러 오피스의 id로 사진들을 한 번에 찾을 수 있다.")
+  @Test
+  public void findByOfficeIdIn() throws Exception {
+    // given
+    Office office1 = officeRepository.save(Office.builder()
+        .name("office1")
+        .leaseFee(10000L)
+        .maxCapacity(10)
+        .maxRoomCount(10)
+        .build());
+
+    Office office2 = officeRepository.save(Office.builder()
+        .name("office2")
+        .leaseFee(10000L)
+        .maxCapacity(10)
+        .maxRoomCount(10)
+        .build());
+
+    Office office3 = officeRepository.save(Office.builder()
+        .name("office3")
+        .leaseFee(10000L)
+        .maxCapacity(10)
+        .maxRoomCount(10)
+        .build());
+
+    officePictureRepository.saveAll(List.of(
+        OfficePicture.createFromPath("abcd.png", office1),
+        OfficePicture.createFromPath("abce.png", office2),
+        OfficePicture.createFromPath("abcf.png", office2),
+        OfficePicture.createFromPath("abcg.png", office3)
+    ));
+
+    // when
+    List<OfficePicture> result = officePictureRepository.findByOfficeIdIn(
+        List.of(office1.getId(), office2.getId()));
+
+    // then
+    Assertions.assertThat(result).hasSize(3)
+        .extracting("fileName")
+        .containsExactlyInAnyOrder(
+            "abcd.png", "abce.png", "abcf.png"
+        );
+  }
+}
@@ -0,0 +1,212 @@
+package com.dokkebi.officefinder.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.SendMessage;
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.chat.ChatMessage;
+import com.dokkebi.officefinder.entity.chat.ChatRoom;
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
+import com.dokkebi.officefinder.repository.chat.ChatMessageRepository;
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+class ChatMessageWriteBehindTest {
+
+  @Autowired
+  private ChatMessageWriteBehind chatMessageWriteBehind;
+  @Autowired
+  private CustomerRepository customerRepository;
+  @Autowired
+  private OfficeOwnerRepository officeOwnerRepository;
+  @Autowired
+  private ChatRoomRepository chatRoomRepository;
+  @Autowired
+  private ChatMessageRepository chatMessageRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private ChatUnreadCounter chatUnreadCounter;
+  @Autowired
+  private ChatService chatService;
+
+  private Customer customer;
+  private OfficeOwner officeOwner;
+  private ChatRoom chatRoom;
+
+  @BeforeEach
+  void setUp() {
+    long suffix = System.nanoTime();
+    customer = customerRepository.save(Customer.builder()
+        .name("customer")
+        .email("customer" + suffix + "@test.com")
+        .password("test")
+        .roles(Set.of("ROLE_CUSTOMER"))
+        .build());
+    officeOwner = officeOwnerRepository.save(OfficeOwner.builder()
+        .name("owner")
+        .email("owner" + suffix + "@test.com")
+        .password("test")
+        .businessNumber("123")
+        .roles(Set.of("ROLE_OFFICE_OWNER"))
+        .build());
+
+    chatRoom = chatRoomRepository.save(ChatRoom.create(customer, officeOwner, 1L));
+  }
+
+  @AfterEach
+  void tearDown() {
+    chatMessageRepository.deleteAll(chatMessageRepository.findByChatRoom(chatRoom));
+    chatRoomRepository.delete(chatRoom);
+    customerRepository.delete(customer);
+    officeOwnerRepository.delete(officeOwner);
+  }
+
+  @DisplayName("받은 메세지를 모아서 받은 순서대로 저장하고 채팅방의 마지막 메세지를 갱신한다.")
+  @Test
+  void writeAndFlush() {
+    // given
+    int count = 500;
+
+    // when
+    for (int i = 0; i < count; i++) {
+      String sender = i % 2 == 0 ? "customer" : "owner";
+      chatMessageWriteBehind.write(new SendMessage(chatRoom.getRoomUid(), sender, "message" + i));
+    }
+    chatMessageWriteBehind.flush();
+
+    // then
+    List<ChatMessage> messages = chatMessageRepository.findByChatRoom(chatRoom).stream()
+        .sorted(Comparator.comparing(ChatMessage::getId))
+        .collect(Collectors.toList());
+
+    assertThat(messages).hasSize(count);
+    assertThat(messages.get(0).getMessage()).isEqualTo("message0");
+    assertThat(messages.get(0).getCustomerId()).isEqualTo(customer.getId());
+    assertThat(messages.get(1).getOfficeOwnerId()).isEqualTo(officeOwner.getId());
+    assertThat(messages.get(count - 1).getMessage()).isEqualTo("message" + (count - 1));
+
+    ChatRoom result = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+    assertThat(result.getLastMessageId()).isEqualTo(messages.get(count - 1).getId());
+    assertThat(result.getLastMessage()).isEqualTo("message" + (count - 1));
+    assertThat(result.getLastMessageSender()).isEqualTo(UserRole.OFFICE_OWNER);
+  }
+
+  @DisplayName("없는 채팅방의 메세지는 버리고 나머지 메세지는 저장한다.")
+  @Test
+  void skipUnknownRoom() {
+    // when
+    chatMessageWriteBehind.write(new SendMessage("unknown-room", "customer", "lost"));
+    chatMessageWriteBehind.write(new SendMessage(chatRoom.getRoomUid(), "customer", "saved"));
+    chatMessageWriteBehind.flush();
+
+    // then
+    assertThat(chatMessageRepository.findByChatRoom(chatRoom))
+        .extracting(ChatMessage::getMessage)
+        .containsExactly("saved");
+  }
+
+  @DisplayName("DB 오류로 저장에 실패한 배치는 버리지 않고 다시 저장한다.")
+  @Test
+  void retryAfterTransientFailure() throws Exception {
+    // given
+    ChatRoomRepository failingRepository = mock(ChatRoomRepository.class);
+    given(failingRepository.findWithCustomerByRoomUidIn(anyCollection()))
+        .willThrow(new QueryTimeoutException("database unavailable"))
+        .willAnswer(invocation -> chatRoomRepository.findWithCustomerByRoomUidIn(
+            invocation.getArgument(0)));
+    given(failingRepository.updateLastMessage(any(), any(), any(), any(), any()))
+        .willAnswer(invocation -> chatRoomRepository.updateLastMessage(invocation.getArgument(0),
+            invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3),
+            invocation.getArgument(4)));
+
+    ChatMessageWriteBehind writeBehind = new ChatMessageWriteBehind(jdbcTemplate,
+        transactionManager, failingRepository, chatUnreadCounter, chatService,
+        new SimpleMeterRegistry(), true, 100, 10, Duration.ofMillis(20), Duration.ofMillis(10),
+        Duration.ofMillis(50));
+    writeBehind.start();
+
+    // when
+    writeBehind.write(new SendMessage(chatRoom.getRoomUid(), "customer", "first"));
+    writeBehind.write(new SendMessage(chatRoom.getRoomUid(), "owner", "second"));
+    writeBehind.flush();
+    writeBehind.shutdown();
+
+    // then
+    List<ChatMessage> messages = chatMessageRepository.findByChatRoom(chatRoom);
+    assertThat(messages)
+        .extracting(ChatMessage::getMessage)
+        .containsExactlyInAnyOrder("first", "second");
+
+    ChatRoom result = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+    assertThat(result.getLastMessageId()).isEqualTo(messages.stream()
+        .mapToLong(ChatMessage::getId).max().orElseThrow());
+  }
+
+  @DisplayName("큐가 가득 찬 상태에서 재시도 중이어도 받은 순서대로 저장한다.")
+  @Test
+  void keepOrderWhileRetryingWithFullQueue() throws Exception {
+    // given
+    ChatRoomRepository failingRepository = mock(ChatRoomRepository.class);
+    given(failingRepository.findWithCustomerByRoomUidIn(anyCollection()))
+        .willThrow(new QueryTimeoutException("database unavailable"))
+        .willThrow(new QueryTimeoutException("database unavailable"))
+        .willAnswer(invocation -> chatRoomRepository.findWithCustomerByRoomUidIn(
+            invocation.getArgument(0)));
+    given(failingRepository.updateLastMessage(any(), any(), any(), any(), any()))
+        .willAnswer(invocation -> chatRoomRepository.updateLastMessage(invocation.getArgument(0),
+            invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3),
+            invocation.getArgument(4)));
+
+    ChatMessageWriteBehind writeBehind = new ChatMessageWriteBehind(jdbcTemplate,
+        transactionManager, failingRepository, chatUnreadCounter, chatService,
+        new SimpleMeterRegistry(), true, 5, 3, Duration.ofMillis(20), Duration.ofMillis(10),
+        Duration.ofMillis(50));
+    writeBehind.start();
+    int count = 30;
+
+    // when
+    for (int i = 0; i < count; i++) {
+      writeBehind.write(new SendMessage(chatRoom.getRoomUid(), "customer", "message" + i));
+    }
+    writeBehind.flush();
+    writeBehind.shutdown();
+
+    // then
+    List<ChatMessage> messages = chatMessageRepository.findByChatRoom(chatRoom).stream()
+        .sorted(Comparator.comparing(ChatMessage::getId))
+        .collect(Collectors.toList());
+
+    assertThat(messages).hasSize(count);
+    for (int i = 0; i < count; i++) {
+      assertThat(messages.get(i).getMessage()).isEqualTo("message" + i);
+    }
+
+    ChatRoom result = chatRoomRepository.findById(chatRoom.getId()).orElseThrow();
+    assertThat(result.getLastMessage()).isEqualTo("message" + (count - 1));
+  }
+}
@@ -0,0 +1,151 @@
+package com.dokkebi.officefinder.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.dokkebi.officefinder.config.ChatConfig;
+import com.dokkebi.officefinder.controller.chat.dto.ChatRoomDto.SendMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+/*
+같은 Redis를 사용하는 두 노드를 한 JVM 안에 만들어, 한 노드에 발행한 채팅 메세지가 다른 노드의 구독자에게 전달되는지 확인한다.
+ */
+@Slf4j
+@SpringBootTest
+class ChatRoomBroadcasterTest {
+
+  @Autowired
+  private RedisConnectionFactory redisConnectionFactory;
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private Node nodeA;
+  private Node nodeB;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    nodeA = new Node();
+    nodeB = new Node();
+    awaitSubscription();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    nodeA.container.destroy();
+    nodeB.container.destroy();
+  }
+
+  @DisplayName("한 노드에 보낸 채팅 메세지가 다른 노드의 채팅방 구독자에게 한 번씩 전달된다.")
+  @Test
+  void deliverAcrossNodes() throws Exception {
+    // when
+    nodeA.broadcaster.broadcast(new SendMessage("room-1", "customer", "hello"));
+
+    // then
+    nodeB.awaitDelivered("/topic/chat/room/room-1", 1);
+    assertThat(nodeA.delivered("/topic/chat/room/room-1")).isEqualTo(1);
+    assertThat(nodeB.delivered("/topic/chat/room/room-1")).isEqualTo(1);
+  }
+
+  @DisplayName("두 노드가 동시에 메세지를 보내도 모든 메세지가 양쪽 노드에 전달된다.")
+  @Tag("benchmark")
+  @Test
+  void throughput() throws Exception {
+    // given
+    int count = 5_000;
+
+    // when
+    long start = System.nanoTime();
+    Thread sender = new Thread(() -> {
+      for (int i = 0; i < count; i++) {
+        nodeB.broadcaster.broadcast(new SendMessage("room-b", "owner", "message" + i));
+      }
+    });
+    sender.start();
+    for (int i = 0; i < count; i++) {
+      nodeA.broadcaster.broadcast(new SendMessage("room-a", "customer", "message" + i));
+    }
+    sender.join();
+
+    nodeA.awaitDelivered("/topic/chat/room/room-b", count);
+    nodeB.awaitDelivered("/topic/chat/room/room-a", count);
+    long elapsed = System.nanoTime() - start;
+
+    // then
+    log.info("[chat broadcast] {} messages across 2 nodes, {} ms, {} msg/s", count * 2,
+        TimeUnit.NANOSECONDS.toMillis(elapsed), count * 2L * 1_000_000_000L / elapsed);
+    assertThat(nodeA.delivered("/topic/chat/room/room-a")).isEqualTo(count);
+    assertThat(nodeB.delivered("/topic/chat/room/room-b")).isEqualTo(count);
+  }
+
+  // 구독이 완료되기 전에 발행된 메세지는 전달되지 않으므로, 양쪽 노드가 메세지를 받을 때까지 기다린다.
+  private void awaitSubscription() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (System.currentTimeMillis() < deadline
+        && (nodeA.delivered("/topic/chat/room/ping") == 0
+        || nodeB.delivered("/topic/chat/room/ping") == 0)) {
+      nodeA.broadcaster.broadcast(new SendMessage("ping", "customer", "ping"));
+      nodeB.broadcaster.broadcast(new SendMessage("ping", "customer", "ping"));
+      Thread.sleep(50);
+    }
+  }
+
+  private class Node {
+
+    private final RedisMessageListenerContainer container;
+    private final ChatRoomBroadcaster broadcaster;
+    private final Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+
+    private Node() throws Exception {
+      SimpMessageSendingOperations sendingOperations = mock(SimpMessageSendingOperations.class);
+      doAnswer(invocation -> {
+        deliveries.computeIfAbsent(invocation.getArgument(0), key -> new AtomicInteger())
+            .incrementAndGet();
+        return null;
+      }).when(sendingOperations).convertAndSend(anyString(), any(Object.class));
+
+      container = new RedisMessageListenerContainer();
+      container.setConnectionFactory(redisConnectionFactory);
+      container.afterPropertiesSet();
+      container.start();
+
+      broadcaster = new ChatRoomBroadcaster(sendingOperations, redisTemplate, container,
+          objectMapper, new SimpleMeterRegistry(), ChatConfig.BROKER_MODE_REDIS);
+    }
+
+    private int delivered(String destination) {
+      AtomicInteger count = deliveries.get(destination);
+      return count == null ? 0 : count.get();
+    }
+
+    private void awaitDelivered(String destination, int expected) throws InterruptedException {
+      long deadline = System.currentTimeMillis() + 30_000;
+      while (delivered(destination) < expected && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(delivered(destination)).isEqualTo(expected);
+    }
+  }
+}
@@ -0,0 +1,215 @@
+package com.dokkebi.officefinder.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.entity.OfficeOwner;
+import com.dokkebi.officefinder.entity.chat.ChatMessage;
+import com.dokkebi.officefinder.entity.chat.ChatRoom;
+import com.dokkebi.officefinder.entity.type.UserRole;
+import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.repository.OfficeOwnerRepository;
+import com.dokkebi.officefinder.repository.chat.ChatMessageRepository;
+import com.dokkebi.officefinder.repository.chat.ChatRoomRepository;
+import com.dokkebi.officefinder.service.chat.dto.ChatUnreadCount;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@SpringBootTest
+class ChatUnreadCounterTest {
+
+  @Autowired
+  private ChatUnreadCounter chatUnreadCounter;
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+  @Autowired
+  private CustomerRepository customerRepository;
+  @Autowired
+  private OfficeOwnerRepository officeOwnerRepository;
+  @Autowired
+  private ChatRoomRepository chatRoomRepository;
+  @Autowired
+  private ChatMessageRepository chatMessageRepository;
+
+  private Customer customer;
+  private OfficeOwner officeOwner;
+  private ChatRoom chatRoom;
+
+  @BeforeEach
+  void setUp() {
+    long suffix = System.nanoTime();
+    customer = customerRepository.save(Customer.builder()
+        .name("customer")
+        .email("customer" + suffix + "@test.com")
+        .password("test")
+        .roles(Set.of("ROLE_CUSTOMER"))
+        .build());
+    officeOwner = officeOwnerRepository.save(OfficeOwner.builder()
+        .name("owner")
+        .email("owner" + suffix + "@test.com")
+        .password("test")
+        .businessNumber("123")
+        .roles(Set.of("ROLE_OFFICE_OWNER"))
+        .build());
+
+    chatRoom = chatRoomRepository.save(ChatRoom.builder()
+        .officeId(1L)
+        .customer(customer)
+        .officeOwner(officeOwner)
+        .roomUid("room" + suffix)
+        .lastSeenCustomer(LocalDateTime.now().minusDays(1))
+        .lastSeenOfficeOwner(LocalDateTime.now().minusDays(1))
+        .build());
+
+    redisTemplate.delete("chat:unread:customer:" + customer.getId());
+  }
+
+  @AfterEach
+  void tearDown() {
+    redisTemplate.delete("chat:unread:customer:" + customer.getId());
+    chatMessageRepository.deleteAll(chatMessageRepository.findByChatRoom(chatRoom));
+    chatRoomRepository.delete(chatRoom);
+    customerRepository.delete(customer);
+    officeOwnerRepository.delete(officeOwner);
+  }
+
+  @DisplayName("Redis에 개수가 없으면 마지막으로 읽은 이후 상대방이 보낸 메세지 수로 다시 만든다.")
+  @Test
+  void rebuildFromDatabase() {
+    // given
+    saveMessage(null, officeOwner.getId());
+    saveMessage(null, officeOwner.getId());
+    saveMessage(customer.getId(), null);
+
+    // when
+    long total = chatUnreadCounter.total(UserRole.CUSTOMER, customer.getId());
+
+    // then
+    assertThat(total).isEqualTo(2);
+    assertThat(chatUnreadCounter.unreadByRoom(UserRole.CUSTOMER, customer.getId()))
+        .containsExactly(entry(chatRoom.getId(), 2L));
+  }
+
+  @DisplayName("메세지를 받으면 개수가 증가하고, 채팅방을 읽으면 해당 채팅방의 개수만큼 전체 개수가 줄어든다.")
+  @Test
+  void incrementAndReset() {
+    // given
+    assertThat(chatUnreadCounter.total(UserRole.CUSTOMER, customer.getId())).isZero();
+
+    LocalDateTime receivedAt = LocalDateTime.now();
+
+    // when
+    chatUnreadCounter.increment(UserRole.CUSTOMER, customer.getId(), chatRoom.getId(), 1L,
+        receivedAt);
+    chatUnreadCounter.increment(UserRole.CUSTOMER, customer.getId(), chatRoom.getId(), 2L,
+        receivedAt);
+    chatUnreadCounter.increment(UserRole.CUSTOMER, customer.getId(), chatRoom.getId() + 1, 3L,
+        receivedAt);
+    long beforeRead = chatUnreadCounter.total(UserRole.CUSTOMER, customer.getId());
+
+    chatUnreadCounter.reset(UserRole.CUSTOMER, customer.getId(), chatRoom.getId(),
+        LocalDateTime.now());
+
+    // then
+    assertThat(beforeRead).isEqualTo(3);
+    assertThat(chatUnreadCounter.total(UserRole.CUSTOMER, customer.getId())).isEqualTo(1);
+    assertThat(chatUnreadCounter.unreadByRoom(UserRole.CUSTOMER, customer.getId()))
+        .containsExactly(entry(chatRoom.getId() + 1, 1L));
+  }
+
+  @DisplayName("DB에서 개수를 다시 만드는 중에 메세지를 받으면, 이전에 조회한 개수로 덮어쓰지 않고 다음 조회에서 다시 만든다.")
+  @Test
+  void rebuildSkippedWhenIncrementedConcurrently() {
+    // given
+    ChatRoomRepository repository = mock(ChatRoomRepository.class);
+    AtomicReference<ChatUnreadCounter> counter = new AtomicReference<>();
+    Long customerId = customer.getId();
+    Long chatRoomId = chatRoom.getId();
+
+    // 첫 조회 직후 새 메세지가 커밋되어 증가 요청이 반영되고, 다음 조회에는 그 메세지가 포함된다.
+    given(repository.countUnreadByMemberIds(any(), anyList()))
+        .willAnswer(invocation -> {
+          counter.get().increment(UserRole.CUSTOMER, customerId, chatRoomId, 3L,
+              LocalDateTime.now());
+          return List.of(new ChatUnreadCount(customerId, chatRoomId, 2L, 2L));
+        })
+        .willReturn(List.of(new ChatUnreadCount(customerId, chatRoomId, 3L, 3L)));
+    counter.set(new ChatUnreadCounter(redisTemplate, repository, Duration.ofMinutes(1)));
+
+    // when
+    long first = counter.get().total(UserRole.CUSTOMER, customerId);
+    long second = counter.get().total(UserRole.CUSTOMER, customerId);
+
+    // then
+    assertThat(first).isEqualTo(2);
+    assertThat(second).isEqualTo(3);
+    assertThat(counter.get().unreadByRoom(UserRole.CUSTOMER, customerId))
+        .containsExactly(entry(chatRoomId, 3L));
+  }
+
+  @DisplayName("다시 만들 때 이미 센 메세지의 증가 요청이 늦게 도착하면 무시한다.")
+  @Test
+  void incrementSkippedWhenCountedByRebuild() {
+    // given
+    ChatRoomRepository repository = mock(ChatRoomRepository.class);
+    Long customerId = customer.getId();
+    Long chatRoomId = chatRoom.getId();
+
+    given(repository.countUnreadByMemberIds(any(), anyList()))
+        .willReturn(List.of(new ChatUnreadCount(customerId, chatRoomId, 2L, 10L)));
+    ChatUnreadCounter counter = new ChatUnreadCounter(redisTemplate, repository,
+        Duration.ofMinutes(1));
+    counter.total(UserRole.CUSTOMER, customerId);
+
+    // when
+    counter.increment(UserRole.CUSTOMER, customerId, chatRoomId, 10L, LocalDateTime.now());
+    long afterCounted = counter.total(UserRole.CUSTOMER, customerId);
+    counter.increment(UserRole.CUSTOMER, customerId, chatRoomId, 11L, LocalDateTime.now());
+
+    // then
+    assertThat(afterCounted).isEqualTo(2);
+    assertThat(counter.total(UserRole.CUSTOMER, customerId)).isEqualTo(3);
+  }
+
+  @DisplayName("채팅방을 읽기 전에 받은 메세지가 읽은 이후에 저장되면 읽지 않은 메세지로 세지 않는다.")
+  @Test
+  void incrementSkippedWhenReceivedBeforeRead() {
+    // given
+    LocalDateTime receivedAt = LocalDateTime.now();
+    assertThat(chatUnreadCounter.total(UserRole.CUSTOMER, customer.getId())).isZero();
+    chatUnreadCounter.reset(UserRole.CUSTOMER, customer.getId(), chatRoom.getId(),
+        receivedAt.plusSeconds(1));
+
+    // when
+    chatUnreadCounter.increment(UserRole.CUSTOMER, customer.getId(), chatRoom.getId(), 1L,
+        receivedAt);
+
+    // then
+    assertThat(chatUnreadCounter.total(UserRole.CUSTOMER, customer.getId())).isZero();
+    assertThat(chatUnreadCounter.unreadByRoom(UserRole.CUSTOMER, customer.getId())).isEmpty();
+  }
+
+  private void saveMessage(Long customerId, Long officeOwnerId) {
+    chatMessageRepository.save(ChatMessage.builder()
+        .chatRoom(chatRoom)
+        .customerId(customerId)
+        .officeOwnerId(officeOwnerId)
+        .message("message")
+        .build());
+  }
+}
@@ -0,0 +1,105 @@
+package com.dokkebi.officefinder.service.customer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.dokkebi.officefinder.entity.Customer;
+import com.dokkebi.officefinder.exception.CustomException;
+import com.dokkebi.officefinder.repository.CustomerRepository;
+import com.dokkebi.officefinder.service.customer.CustomerProfileCache.CustomerProfiles;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerProfileCacheTest {
+
+  @Mock
+  private CustomerRepository customerRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private CustomerProfileCache customerProfileCache;
+
+  @BeforeEach
+  void setUp() {
+    customerProfileCache = new CustomerProfileCache(customerRepository, redisTemplate,
+        redisMessageListenerContainer, 600, 100);
+  }
+
+  @DisplayName("여러 회원의 표시 정보를 한 번에 조회하고, 다시 요청하면 캐시된 값을 사용한다.")
+  @Test
+  public void loadTest() {
+    // given
+    given(customerRepository.findAllById(anyIterable())).willReturn(List.of(
+        createCustomer(1L, "customer1"),
+        createCustomer(2L, "customer2")
+    ));
+
+    // when
+    customerProfileCache.load(List.of(1L, 2L, 1L));
+    CustomerProfiles result = customerProfileCache.load(List.of(2L, 1L));
+
+    // then
+    assertThat(result.get(1L).getName()).isEqualTo("customer1");
+    assertThat(result.get(2L).getName()).isEqualTo("customer2");
+    verify(customerRepository, times(1)).findAllById(anyIterable());
+  }
+
+  @DisplayName("캐시에서 제거된 회원은 다시 조회한다.")
+  @Test
+  public void evictTest() {
+    // given
+    given(customerRepository.findAllById(anyIterable()))
+        .willReturn(List.of(createCustomer(1L, "customer1")))
+        .willReturn(List.of(createCustomer(1L, "renamed")));
+
+    customerProfileCache.load(List.of(1L));
+
+    // when
+    customerProfileCache.evict(1L);
+    CustomerProfiles result = customerProfileCache.load(List.of(1L));
+
+    // then
+    assertThat(result.get(1L).getName()).isEqualTo("renamed");
+  }
+
+  @DisplayName("존재하지 않는 회원의 표시 정보를 요청하면 예외가 발생한다.")
+  @Test
+  public void loadNotExistCustomerTest() {
+    // given
+    given(customerRepository.findAllById(anyIterable())).willReturn(List.of());
+
+    // when
+    CustomerProfiles result = customerProfileCache.load(List.of(1L));
+
+    // then
+    assertThatThrownBy(() -> result.get(1L))
+        .isInstanceOf(CustomException.class);
+  }
+
+  private Customer createCustomer(Long id, String name) {
+    return Customer.builder()
+        .id(id)
+        .name(name)
+        .email(name + "@test.com")
+        .password("12345")
+        .roles(Set.of("ROLE_CUSTOMER"))
+        .build();
+  }
+}
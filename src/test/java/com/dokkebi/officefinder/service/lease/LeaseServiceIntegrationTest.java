@@ -29,6 +29,7 @@ import com.dokkebi.officefinder.repository.office.location.OfficeLocationReposit
 import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseOfficeRequestDto;
 import com.dokkebi.officefinder.service.lease.dto.LeaseServiceDto.LeaseOfficeServiceResponse;
+import com.dokkebi.officefinder.service.notification.NotificationDispatcher;
 import com.dokkebi.officefinder.service.office.OfficeService;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -77,8 +78,13 @@ public class LeaseServiceIntegrationTest {
   @Autowired
   private OfficeOwnerNotificationRepository officeOwnerNotificationRepository;
 
+  @Autowired
+  private NotificationDispatcher notificationDispatcher;
+
   @AfterEach
   void tearDown(){
+    // 커밋 이후 비동기로 저장되는 알림이 데이터 삭제 이후에 저장되지 않도록 먼저 처리
+    notificationDispatcher.flush();
     customerNotificationRepository.deleteAllInBatch();
     officeOwnerNotificationRepository.deleteAllInBatch();
     reviewRepository.deleteAllInBatch();
@@ -356,6 +362,40 @@ public class LeaseServiceIntegrationTest {
     assertEquals(customer.getPoint(), 1000000);
   }
 
+  @DisplayName("이미 거절된 임대 요청은 다시 거절할 수 없다.")
+  @Test
+  public void rejectLeaseRequestTwice(){
+    // Given
+    customerRepository.save(createCustomer("customer1", "test@test.com", "1234",
+        Set.of("ROLE_CUSTOMER"), 1000000));
+
+    OfficeOwner savedOfficeOwner = officeOwnerRepository.save(createOfficeOwner("kim",
+        "owner@test.com", "12345", "123-45", 1000L, Set.of("ROLE_OFFICE_OWNER")));
+
+    OfficeCreateRequestDto request = new OfficeCreateRequestDto();
+    setOfficeInfo(request, "office1", 5, 500000, 5);
+    request.setAddress(setOfficeLocation("경상남도", "김해시", "삼계동", "", "경상남도 김해시 삼계동 삼계로 223", 12345));
+    request.setOfficeOption(setOfficeCondition(false, false, true, true, true, true,
+        true, true, true, true, true, true, true, true, true, true));
+
+    Long savedId = officeService.createOfficeInfo(request, new ArrayList<>(),
+        savedOfficeOwner.getEmail());
+
+    LeaseOfficeServiceResponse response = leaseService.leaseOffice(
+        createLeaseRequest("test@test.com", savedId, LocalDate.now(), 1, 4));
+
+    leaseService.rejectLeaseRequest(response.getLeaseId());
+
+    // When
+    // Then
+    assertThatThrownBy(() -> leaseService.rejectLeaseRequest(response.getLeaseId()))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorMessage", "status")
+        .contains("수락 대기 중인 임대 요청이 아닙니다.", HttpStatus.BAD_REQUEST);
+    assertEquals(1000000L,
+        customerRepository.findByEmail("test@test.com").get().getPoint());
+  }
+
   private LeaseOfficeRequestDto createLeaseRequest(String email, Long officeId, LocalDate startDate,
       int months, int customerCount) {
 
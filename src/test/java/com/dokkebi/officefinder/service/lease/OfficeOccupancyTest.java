@@ -0,0 +1,57 @@
+package com.dokkebi.officefinder.service.lease;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OfficeOccupancyTest {
+
+  private final LocalDate today = LocalDate.of(2023, 9, 1);
+
+  @DisplayName("기간 중 사용 중인 방이 가장 많은 날의 개수를 구한다.")
+  @Test
+  public void maxOccupied() {
+    // given
+    OfficeOccupancy occupancy = new OfficeOccupancy(today, 365);
+
+    occupancy.add(today, today.plusDays(9), 1);
+    occupancy.add(today.plusDays(5), today.plusDays(14), 1);
+    occupancy.add(today.plusDays(20), today.plusDays(30), 1);
+
+    // when, then
+    assertThat(occupancy.maxOccupied(today, today.plusDays(4))).isEqualTo(1);
+    assertThat(occupancy.maxOccupied(today, today.plusDays(30))).isEqualTo(2);
+    assertThat(occupancy.maxOccupied(today.plusDays(10), today.plusDays(30))).isEqualTo(1);
+    assertThat(occupancy.maxOccupied(today.plusDays(15), today.plusDays(19))).isZero();
+  }
+
+  @DisplayName("반환된 임대는 사용 개수에서 제외되고, 기준일 이전 날짜는 무시된다.")
+  @Test
+  public void releaseAndPastDates() {
+    // given
+    OfficeOccupancy occupancy = new OfficeOccupancy(today, 365);
+
+    occupancy.add(today.minusDays(10), today.plusDays(5), 1);
+    occupancy.add(today, today.plusDays(5), 1);
+
+    // when
+    occupancy.add(today, today.plusDays(5), -1);
+
+    // then
+    assertThat(occupancy.maxOccupied(today.minusDays(3), today.plusDays(5))).isEqualTo(1);
+    assertThat(occupancy.maxOccupied(today.plusDays(6), today.plusDays(10))).isZero();
+  }
+
+  @DisplayName("기록 범위를 벗어나는 날짜는 covers로 확인할 수 있다.")
+  @Test
+  public void covers() {
+    // given
+    OfficeOccupancy occupancy = new OfficeOccupancy(today, 30);
+
+    // when, then
+    assertThat(occupancy.covers(today.plusDays(29))).isTrue();
+    assertThat(occupancy.covers(today.plusDays(30))).isFalse();
+  }
+}
@@ -0,0 +1,100 @@
+package com.dokkebi.officefinder.service.lease;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dokkebi.officefinder.exception.CustomErrorCode;
+import com.dokkebi.officefinder.exception.CustomException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OfficeRoomReservationTest {
+
+  @Autowired
+  private OfficeRoomReservation officeRoomReservation;
+
+  @DisplayName("동시에 예약하더라도 방 개수만큼만 예약된다.")
+  @Test
+  public void reserveConcurrently() throws Exception {
+    // given
+    Long officeId = System.nanoTime();
+    LocalDate startDate = LocalDate.now().plusDays(1);
+    LocalDate endDate = startDate.plusMonths(1);
+    int maxRoomCount = 3;
+
+    ExecutorService executor = Executors.newFixedThreadPool(10);
+    List<Callable<Boolean>> tasks = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      tasks.add(() -> {
+        try {
+          officeRoomReservation.reserve(officeId, startDate, endDate, maxRoomCount);
+          return true;
+        } catch (CustomException e) {
+          return false;
+        }
+      });
+    }
+
+    // when
+    long reserved = 0;
+    for (Future<Boolean> result : executor.invokeAll(tasks)) {
+      if (result.get()) {
+        reserved++;
+      }
+    }
+    executor.shutdown();
+
+    // then
+    assertThat(reserved).isEqualTo(maxRoomCount);
+  }
+
+  @DisplayName("방이 반환되면 같은 기간에 다시 예약할 수 있다.")
+  @Test
+  public void reserveAfterRelease() {
+    // given
+    Long officeId = System.nanoTime();
+    LocalDate startDate = LocalDate.now().plusDays(1);
+    LocalDate endDate = startDate.plusDays(10);
+
+    officeRoomReservation.reserve(officeId, startDate, endDate, 1);
+
+    assertThatThrownBy(() -> officeRoomReservation.reserve(officeId, startDate.plusDays(5),
+        endDate.plusDays(5), 1))
+        .isInstanceOf(CustomException.class)
+        .extracting("errorCode")
+        .isEqualTo(CustomErrorCode.NO_ROOMS_AVAILABLE_FOR_LEASE);
+
+    // when
+    officeRoomReservation.release(officeId, startDate, endDate);
+
+    // then
+    officeRoomReservation.reserve(officeId, startDate.plusDays(5), endDate.plusDays(5), 1);
+  }
+
+  @DisplayName("사용 개수를 무효화하면 DB 기준으로 다시 만들어진다.")
+  @Test
+  public void reserveAfterInvalidate() {
+    // given
+    Long officeId = System.nanoTime();
+    LocalDate startDate = LocalDate.now().plusDays(1);
+    LocalDate endDate = startDate.plusDays(10);
+
+    officeRoomReservation.reserve(officeId, startDate, endDate, 1);
+
+    // when
+    officeRoomReservation.invalidate(officeId);
+
+    // then
+    officeRoomReservation.reserve(officeId, startDate, endDate, 1);
+  }
+}
@@ -4,8 +4,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.dokkebi.officefinder.entity.Customer;
@@ -53,6 +51,9 @@ class NotificationServiceTest {
   @Mock
   private CustomerRepository customerRepository;
 
+  @Mock
+  private SseMessageBroker sseMessageBroker;
+
   @InjectMocks
   private NotificationService notificationService;
 
@@ -80,51 +81,13 @@ class NotificationServiceTest {
     String lastEventId = "lastEventId";
 
     when(emitterRepository.save(anyString(), any())).thenReturn(new SseEmitter());
-    when(emitterRepository.findAllEventCacheStartsWithEmail(email)).thenReturn(new HashMap<>());
+    when(emitterRepository.findAllEventCacheAfter(email, lastEventId)).thenReturn(new HashMap<>());
 
     SseEmitter result = notificationService.subscribe(email, lastEventId);
 
     assertNotNull(result);
   }
 
-  @Test
-  @DisplayName("고객에게 알림을 보내는 경우")
-  public void testSendToCustomer() throws Exception {
-    // Given
-    Customer mockCustomer = mock(Customer.class);
-    when(mockCustomer.getEmail()).thenReturn("test@example.com");
-
-    when(customerNotificationRepository.save(any())).thenReturn(new CustomerNotification(
-        1L, "Title", "Content", NotificationType.LEASE_DENIED, mockCustomer
-    ));
-
-    // When
-    notificationService.sendToCustomer(mockCustomer, NotificationType.LEASE_DENIED, "Title",
-        "Content");
-
-    // Then
-    verify(customerNotificationRepository, times(1)).save(any());
-    verify(emitterRepository, times(1)).findAllEmitterStartsWithEmail("test@example.com");
-  }
-
-  @Test
-  @DisplayName("임대 업자에게 보내는 경우")
-  public void testSendToOwner(){
-    // Given
-    OfficeOwner mockOfficeOwner = mock(OfficeOwner.class);
-    when(mockOfficeOwner.getEmail()).thenReturn("test@example.com");
-
-    when(officeOwnerNotificationRepository.save(any())).thenReturn(new OfficeOwnerNotification(
-        1L, "Title", "Content", NotificationType.LEASE_REQUEST_ARRIVED, mockOfficeOwner
-    ));
-
-    notificationService.sendToOwner(mockOfficeOwner, NotificationType.LEASE_REQUEST_ARRIVED, "Title"
-        , "Content");
-
-    verify(officeOwnerNotificationRepository, times(1)).save(any());
-    verify(emitterRepository, times(1)).findAllEmitterStartsWithEmail("test@example.com");
-  }
-
   @Test
   @DisplayName("임대 업자의 알림 리스트 조회")
   public void testGetNotificationByOwner() {
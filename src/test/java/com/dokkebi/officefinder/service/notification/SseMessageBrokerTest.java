@@ -0,0 +1,54 @@
+package com.dokkebi.officefinder.service.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dokkebi.officefinder.service.notification.dto.SseEventMessage;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SseMessageBrokerTest {
+
+  private static final String EMAIL = "broker-test@example.com";
+
+  @Autowired
+  private SseMessageBroker sseMessageBroker;
+
+  @AfterEach
+  void tearDown() {
+    sseMessageBroker.unsubscribeIfIdle(EMAIL);
+  }
+
+  @DisplayName("회원 채널을 구독한 노드는 해당 회원에게 발행된 알림을 받는다.")
+  @Test
+  public void publishToSubscribedUser() throws Exception {
+    // given
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<SseEventMessage> received = new AtomicReference<>();
+
+    sseMessageBroker.subscribe(EMAIL, (message, pattern) -> {
+      received.set(sseMessageBroker.read(message));
+      latch.countDown();
+    });
+
+    // when
+    // 구독은 비동기로 반영되므로 수신될 때까지 몇 차례 발행한다.
+    for (int i = 0; i < 10 && latch.getCount() > 0; i++) {
+      sseMessageBroker.publish(new SseEventMessage(EMAIL, EMAIL + "_1", Map.of("title", "임대 요청")));
+      latch.await(200, TimeUnit.MILLISECONDS);
+    }
+
+    // then
+    assertThat(latch.getCount()).isZero();
+    assertThat(received.get().getEmail()).isEqualTo(EMAIL);
+    assertThat(received.get().getEventId()).isEqualTo(EMAIL + "_1");
+    assertThat(received.get().getData()).isEqualTo(Map.of("title", "임대 요청"));
+  }
+}
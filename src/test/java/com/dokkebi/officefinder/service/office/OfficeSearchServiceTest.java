@@ -15,9 +15,11 @@ import com.dokkebi.officefinder.repository.office.OfficeRepository;
 import com.dokkebi.officefinder.repository.office.condition.OfficeConditionRepository;
 import com.dokkebi.officefinder.repository.office.location.OfficeLocationRepository;
 import com.dokkebi.officefinder.repository.office.picture.OfficePictureRepository;
+import com.dokkebi.officefinder.service.office.index.OfficeAmenityIndex;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -47,6 +50,8 @@ public class OfficeSearchServiceTest {
   private OfficeSearchService officeQueryService;
   @Autowired
   private OfficeOwnerRepository officeOwnerRepository;
+  @Autowired
+  private OfficeAmenityIndex officeAmenityIndex;
 
   @AfterEach
   void tearDown() {
@@ -55,6 +60,7 @@ public class OfficeSearchServiceTest {
     officeLocationRepository.deleteAllInBatch();
     officeRepository.deleteAllInBatch();
     officeOwnerRepository.deleteAllInBatch();
+    officeAmenityIndex.rebuild();
   }
 
   @DisplayName("기본 조건(도 행정구역)으로 오피스를 검색할 수 있다. 검색된 오피스는 페이징 처리가 되어 반환된다.")
@@ -386,6 +392,59 @@ public class OfficeSearchServiceTest {
         );
   }
 
+  @DisplayName("같은 보유 시설 조건이면 인덱스로 검색한 결과와 SQL로 검색한 결과가 같다.")
+  @Test
+  public void searchByIndexAndSqlReturnSameOffices() {
+    // given
+    OfficeOwner savedOfficeOwner = officeOwnerRepository.save(createOfficeOwner("kim",
+        "owner@test.com", "12345", "123-45", 1000L, Set.of("ROLE_OFFICE_OWNER")));
+    addOfficeData(savedOfficeOwner);
+    officeAmenityIndex.rebuild();
+
+    OfficeSearchCond noDoorLock = new OfficeSearchCond();
+    noDoorLock.setHaveDoorLock(false);
+
+    OfficeSearchCond noHeater = new OfficeSearchCond();
+    noHeater.setHaveHeater(false);
+
+    OfficeSearchCond heaterAndDoorLock = new OfficeSearchCond();
+    heaterAndDoorLock.setHaveHeater(true);
+    heaterAndDoorLock.setHaveDoorLock(true);
+    heaterAndDoorLock.setLegion("경상남도");
+
+    PageRequest pageRequest = PageRequest.of(0, 10);
+
+    for (OfficeSearchCond cond : List.of(noDoorLock, noHeater, heaterAndDoorLock)) {
+      // when
+      List<Long> officeIds = officeAmenityIndex.search(cond).orElseThrow();
+
+      List<String> bySql = names(officeRepository.findBySearchCond(cond, pageRequest));
+      List<String> sliceBySql = names(
+          officeRepository.findSliceBySearchCond(cond, null, pageRequest));
+
+      // 후보가 없으면 OfficeSearchService와 같이 쿼리 없이 빈 결과를 반환한다.
+      List<String> byIndex = officeIds.isEmpty() ? List.of() : names(
+          officeRepository.findBySearchCondInIds(cond, officeIds, pageRequest));
+      List<String> sliceByIndex = officeIds.isEmpty() ? List.of() : names(
+          officeRepository.findSliceBySearchCond(cond, officeIds, pageRequest));
+
+      // then
+      assertThat(byIndex).containsExactlyInAnyOrderElementsOf(bySql);
+      assertThat(sliceByIndex).containsExactlyInAnyOrderElementsOf(sliceBySql);
+      assertThat(sliceBySql).containsExactlyInAnyOrderElementsOf(bySql);
+    }
+
+    assertThat(names(officeRepository.findBySearchCond(noDoorLock, pageRequest))).isEmpty();
+    assertThat(names(officeRepository.findBySearchCond(noHeater, pageRequest)))
+        .containsExactly("office1");
+    assertThat(names(officeRepository.findBySearchCond(heaterAndDoorLock, pageRequest)))
+        .containsExactlyInAnyOrder("office2", "office4", "office5");
+  }
+
+  private List<String> names(Slice<Office> offices) {
+    return offices.getContent().stream().map(Office::getName).collect(Collectors.toList());
+  }
+
   private void addOfficeData(OfficeOwner savedOfficeOwner) {
     OfficeCreateRequestDto request = new OfficeCreateRequestDto();
 
@@ -0,0 +1,144 @@
+package com.dokkebi.officefinder.service.office.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.dokkebi.officefinder.controller.office.dto.OfficeSearchCond;
+import com.dokkebi.officefinder.entity.office.Office;
+import com.dokkebi.officefinder.entity.office.OfficeCondition;
+import com.dokkebi.officefinder.repository.office.condition.OfficeConditionRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class OfficeAmenityIndexTest {
+
+  @Mock
+  private OfficeConditionRepository officeConditionRepository;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @InjectMocks
+  private OfficeAmenityIndex officeAmenityIndex;
+
+  @BeforeEach
+  void setUp() {
+    given(officeConditionRepository.findAllWithOffice()).willReturn(List.of(
+        createCondition(1L, true, true),
+        createCondition(2L, true, false),
+        createCondition(3L, false, true)
+    ));
+
+    officeAmenityIndex.rebuild();
+  }
+
+  @DisplayName("보유 시설 조건을 모두 만족하는 오피스 id 목록을 반환한다.")
+  @Test
+  void searchByAmenity() {
+    // given
+    OfficeSearchCond cond = new OfficeSearchCond();
+    cond.setHaveWifi(true);
+    cond.setHaveCafe(true);
+
+    // when
+    Optional<List<Long>> result = officeAmenityIndex.search(cond);
+
+    // then
+    assertThat(result).hasValue(List.of(1L));
+  }
+
+  @DisplayName("보유하지 않음(false)으로 지정한 시설은 해당 시설이 없는 오피스만 반환한다.")
+  @Test
+  void searchByAmenityNotProvided() {
+    // given
+    OfficeSearchCond cond = new OfficeSearchCond();
+    cond.setHaveCafe(false);
+
+    // when
+    Optional<List<Long>> result = officeAmenityIndex.search(cond);
+
+    // then
+    assertThat(result).hasValue(List.of(2L));
+  }
+
+  @DisplayName("보유 시설 조건이 없으면 인덱스를 사용하지 않는다.")
+  @Test
+  void searchWithoutAmenityCondition() {
+    // given
+    OfficeSearchCond cond = new OfficeSearchCond();
+    cond.setLegion("경상남도");
+
+    // when
+    Optional<List<Long>> result = officeAmenityIndex.search(cond);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @DisplayName("오피스 정보가 수정되거나 삭제되면 인덱스에 반영된다.")
+  @Test
+  void putAndRemove() {
+    // given
+    OfficeSearchCond cond = new OfficeSearchCond();
+    cond.setHaveWifi(true);
+
+    // when
+    officeAmenityIndex.put(2L, createCondition(2L, false, false));
+    officeAmenityIndex.remove(1L);
+
+    // then
+    assertThat(officeAmenityIndex.search(cond)).hasValue(List.of(3L));
+  }
+
+  @DisplayName("다른 노드의 변경 알림을 받으면 해당 오피스의 시설 정보를 DB에서 다시 읽어 반영한다.")
+  @Test
+  void refreshFromOtherNode() {
+    // given
+    OfficeSearchCond cond = new OfficeSearchCond();
+    cond.setHaveWifi(true);
+
+    given(officeConditionRepository.findByOfficeId(3L)).willReturn(
+        Optional.of(createCondition(3L, false, true)));
+    given(officeConditionRepository.findByOfficeId(4L)).willReturn(
+        Optional.of(createCondition(4L, true, false)));
+
+    // when
+    officeAmenityIndex.onMessage(message("other-node:3"), null);
+    officeAmenityIndex.onMessage(message("other-node:4"), null);
+
+    // then
+    assertThat(officeAmenityIndex.search(cond)).hasValue(List.of(1L, 2L, 4L));
+  }
+
+  private DefaultMessage message(String body) {
+    return new DefaultMessage("office:amenity:invalidation".getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private OfficeCondition createCondition(Long officeId, boolean wifi, boolean cafe) {
+    Office office = Office.builder()
+        .id(officeId)
+        .build();
+
+    return OfficeCondition.builder()
+        .office(office)
+        .wifi(wifi)
+        .cafe(cafe)
+        .build();
+  }
+}